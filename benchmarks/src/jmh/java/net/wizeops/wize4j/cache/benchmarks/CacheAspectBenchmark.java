@@ -0,0 +1,82 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import net.wizeops.wize4j.cache.annotations.Cacheable;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheAspect;
+import net.wizeops.wize4j.cache.manager.CacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code @Cacheable} advice on a cache hit and on a miss, against a direct call of
+ * the same method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheAspectBenchmark {
+    private static final int CACHE_SIZE = 10_000;
+
+    private CacheManager cacheManager;
+    private CacheAspect aspect;
+    private Cacheable cacheable;
+    private JoinPoints joinPoints;
+    private UserRepository repository;
+    private long missId;
+
+    public static class UserRepository {
+        @Cacheable(value = "users", key = "#id")
+        public String findUser(long id) {
+            return "user-" + id;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Throwable {
+        cacheManager = new CacheManager(CacheConfiguration.builder().maxSize(CACHE_SIZE).build());
+        aspect = new CacheAspect(cacheManager);
+        repository = new UserRepository();
+
+        Method method = UserRepository.class.getMethod("findUser", long.class);
+        cacheable = method.getAnnotation(Cacheable.class);
+        joinPoints = JoinPoints.forMethod(repository, method, args -> repository.findUser((Long) args[0]));
+
+        aspect.cacheable(joinPoints.execution(42L), cacheable);
+    }
+
+    @TearDown
+    public void tearDown() {
+        cacheManager.close();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return repository.findUser(42L);
+    }
+
+    @Benchmark
+    public Object hit() throws Throwable {
+        return aspect.cacheable(joinPoints.execution(42L), cacheable);
+    }
+
+    @Benchmark
+    public Object miss() throws Throwable {
+        // Clé toujours nouvelle : chargement, écriture puis éviction une fois le cache plein
+        return aspect.cacheable(joinPoints.execution(CACHE_SIZE + missId++), cacheable);
+    }
+}
@@ -0,0 +1,68 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import net.wizeops.wize4j.cache.compression.CompressionCodecRegistry;
+import net.wizeops.wize4j.cache.compression.CompressionStrategy;
+import net.wizeops.wize4j.cache.compression.DefaultCompressionStrategy;
+import net.wizeops.wize4j.cache.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization plus compression of a cached value, and the reverse, for each codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({CompressionCodecRegistry.GZIP, CompressionCodecRegistry.LZ4, CompressionCodecRegistry.ZSTD})
+    String codec;
+
+    // Nombre de commandes dans la valeur (~100 octets chacune)
+    @Param({"10", "1000"})
+    int orders;
+
+    private CompressionStrategy strategy;
+    private List<Order> value;
+    private byte[] compressed;
+
+    public record Order(long id, String customer, String status, double amount, List<String> items) {
+    }
+
+    @Setup
+    public void setUp() {
+        strategy = new DefaultCompressionStrategy(Serializer.defaultSerializer(), CompressionCodecRegistry.get(codec));
+        value = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            value.add(new Order(i, "customer-" + (i % 97), i % 3 == 0 ? "SHIPPED" : "PENDING",
+                    i * 1.25, List.of("sku-" + (i % 50), "sku-" + (i % 13))));
+        }
+        compressed = strategy.compress(value);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return strategy.compress(value);
+    }
+
+    @Benchmark
+    public Object decompress() {
+        return strategy.decompress(compressed);
+    }
+}
@@ -0,0 +1,109 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.config.CacheProviderType;
+import net.wizeops.wize4j.cache.providers.hazelcast.HazelcastCacheProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@link HazelcastCacheProvider} through a client connected to an embedded member started in
+ * the benchmark JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HazelcastProviderBenchmark {
+    private static final String CLUSTER_NAME = "wize4j-benchmark";
+    private static final int KEYS = 10_000;
+    private static final int BULK_SIZE = 100;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private HazelcastInstance member;
+    private HazelcastCacheProvider provider;
+    private String[] keys;
+    private List<String> bulkKeys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    private static final class Increment implements Function<Object, Long>, Serializable {
+        @Override
+        public Long apply(Object current) {
+            return current instanceof Long count ? count + 1 : 1L;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Config memberConfig = new Config().setClusterName(CLUSTER_NAME);
+        memberConfig.getNetworkConfig().setPort(5801).getJoin().getMulticastConfig().setEnabled(false);
+        member = Hazelcast.newHazelcastInstance(memberConfig);
+        int port = member.getCluster().getLocalMember().getAddress().getPort();
+
+        provider = new HazelcastCacheProvider(CacheConfiguration.builder()
+                .providerType(CacheProviderType.HAZELCAST)
+                .hazelcastMembers(List.of("127.0.0.1:" + port))
+                .hazelcastGroupName(CLUSTER_NAME)
+                .build(), "benchmark");
+
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "key-" + i;
+            provider.put(keys[i], "value-" + i, TTL);
+        }
+        bulkKeys = new ArrayList<>(List.of(keys).subList(0, BULK_SIZE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.close();
+        member.shutdown();
+    }
+
+    @Benchmark
+    public Object get(Cursor cursor) {
+        return provider.get(keys[cursor.random.nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public void put(Cursor cursor) {
+        provider.put(keys[cursor.random.nextInt(KEYS)], "updated", TTL);
+    }
+
+    @Benchmark
+    public Map<String, Object> getBulk() {
+        return provider.getBulk(bulkKeys);
+    }
+
+    @Benchmark
+    public Long compute() {
+        return provider.compute("counter", new Increment());
+    }
+}
@@ -0,0 +1,110 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.config.EvictionPolicy;
+import net.wizeops.wize4j.cache.providers.memory.InMemoryCacheProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Get and put throughput of {@link InMemoryCacheProvider}, single-threaded and with four
+ * threads sharing the cache. {@code putAtCapacity} writes keys that are never resident, so
+ * every put goes through eviction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryProviderBenchmark {
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Param({"1000", "100000"})
+    int cacheSize;
+
+    @Param({"LRU", "W_TINY_LFU"})
+    EvictionPolicy evictionPolicy;
+
+    private InMemoryCacheProvider provider;
+    private String[] keys;
+    private String[] absentKeys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        provider = new InMemoryCacheProvider(CacheConfiguration.builder()
+                .maxSize(cacheSize)
+                .evictionPolicy(evictionPolicy)
+                .build());
+
+        keys = new String[cacheSize];
+        for (int i = 0; i < cacheSize; i++) {
+            keys[i] = "key-" + i;
+            provider.put(keys[i], "value-" + i, TTL);
+        }
+        // Deux fois la capacité : une clé revient après avoir été évincée
+        absentKeys = new String[cacheSize * 2];
+        for (int i = 0; i < absentKeys.length; i++) {
+            absentKeys[i] = "absent-" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.close();
+    }
+
+    @Benchmark
+    public Object get(Cursor cursor) {
+        return provider.get(keys[cursor.random.nextInt(keys.length)]);
+    }
+
+    @Benchmark
+    public void put(Cursor cursor) {
+        provider.put(keys[cursor.random.nextInt(keys.length)], "updated", TTL);
+    }
+
+    @Benchmark
+    public void putAtCapacity(Cursor cursor) {
+        provider.put(absentKeys[cursor.next++ % absentKeys.length], "new", TTL);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getContended(Cursor cursor) {
+        return get(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void putContended(Cursor cursor) {
+        put(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void putAtCapacityContended(Cursor cursor) {
+        putAtCapacity(cursor);
+    }
+}
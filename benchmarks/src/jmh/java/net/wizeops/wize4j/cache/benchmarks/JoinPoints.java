@@ -0,0 +1,55 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.runtime.internal.AroundClosure;
+import org.aspectj.runtime.reflect.Factory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Builds join points the way woven code does, so that advice and key generation can be
+ * measured without running the AspectJ weaver on the benchmark sources.
+ */
+final class JoinPoints {
+    private final JoinPoint.StaticPart staticPart;
+    private final Object target;
+    private final Function<Object[], Object> body;
+
+    private JoinPoints(Object target, Method method, Function<Object[], Object> body) {
+        Factory factory = new Factory(method.getDeclaringClass().getSimpleName() + ".java", method.getDeclaringClass());
+        this.staticPart = factory.makeSJP(JoinPoint.METHOD_EXECUTION,
+                factory.makeMethodSig(method.getModifiers(), method.getName(),
+                        method.getDeclaringClass(), method.getParameterTypes(),
+                        Arrays.stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new),
+                        method.getExceptionTypes(), method.getReturnType()),
+                0);
+        this.target = target;
+        this.body = body;
+    }
+
+    /**
+     * Join points for executions of {@code method} on {@code target}; proceeding runs {@code body}.
+     * The method must be compiled with {@code -parameters} for named key patterns to resolve.
+     */
+    static JoinPoints forMethod(Object target, Method method, Function<Object[], Object> body) {
+        return new JoinPoints(target, method, body);
+    }
+
+    /**
+     * A new join point per call, as woven around advice creates one per execution.
+     */
+    ProceedingJoinPoint execution(Object... args) {
+        ProceedingJoinPoint joinPoint = (ProceedingJoinPoint) Factory.makeJP(staticPart, target, target, args);
+        joinPoint.set$AroundClosure(new AroundClosure(args) {
+            @Override
+            public Object run(Object[] state) {
+                return body.apply(state);
+            }
+        });
+        return joinPoint;
+    }
+}
@@ -0,0 +1,68 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import net.wizeops.wize4j.cache.utils.KeyGenerator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Key generation from the default signature-based key, from {@code #param} patterns and from
+ * nested property paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+    private ProceedingJoinPoint joinPoint;
+
+    public record Customer(long id, String region) {
+    }
+
+    public static class OrderService {
+        public String findOrders(long customerId, String status, int page, Customer customer) {
+            return customerId + status + page + customer;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        OrderService service = new OrderService();
+        joinPoint = JoinPoints.forMethod(service,
+                        OrderService.class.getMethod("findOrders", long.class, String.class, int.class, Customer.class),
+                        args -> service.findOrders((Long) args[0], (String) args[1], (Integer) args[2], (Customer) args[3]))
+                .execution(123456L, "SHIPPED", 3, new Customer(42L, "eu-west"));
+    }
+
+    @Benchmark
+    public String defaultKey() {
+        return KeyGenerator.generateKey(joinPoint, "");
+    }
+
+    @Benchmark
+    public String singleParameter() {
+        return KeyGenerator.generateKey(joinPoint, "#customerId");
+    }
+
+    @Benchmark
+    public String composite() {
+        return KeyGenerator.generateKey(joinPoint, "#method:#customerId:#status:#page");
+    }
+
+    @Benchmark
+    public String nestedProperty() {
+        return KeyGenerator.generateKey(joinPoint, "#customer.id:#customer.region:#page");
+    }
+}
@@ -0,0 +1,105 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.config.CacheProviderType;
+import net.wizeops.wize4j.cache.providers.redis.RedisCacheProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedisCacheProvider} against a local Redis, with and without the near cache.
+ * <p>
+ * An embedded server is started on port 16379 unless {@code -Dwize4j.bench.redis.host} points
+ * to an existing server ({@code wize4j.bench.redis.port}, default 6379).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisProviderBenchmark {
+    private static final int KEYS = 10_000;
+    private static final int BULK_SIZE = 100;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Param({"false", "true"})
+    boolean nearCache;
+
+    private RedisServer server;
+    private RedisCacheProvider provider;
+    private String[] keys;
+    private List<String> bulkKeys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        String host = System.getProperty("wize4j.bench.redis.host");
+        int port = Integer.getInteger("wize4j.bench.redis.port", host != null ? 6379 : 16379);
+        if (host == null) {
+            server = new RedisServer(port);
+            server.start();
+        }
+
+        provider = new RedisCacheProvider(CacheConfiguration.builder()
+                .providerType(CacheProviderType.REDIS)
+                .redisHost(host != null ? host : "localhost")
+                .redisPort(port)
+                .redisNearCacheEnabled(nearCache)
+                .build(), "benchmark");
+        provider.clear();
+
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "key-" + i;
+            provider.put(keys[i], "value-" + i, TTL);
+        }
+        bulkKeys = new ArrayList<>(List.of(keys).subList(0, BULK_SIZE));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        provider.clear();
+        provider.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public Object get(Cursor cursor) {
+        return provider.get(keys[cursor.random.nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public void put(Cursor cursor) {
+        provider.put(keys[cursor.random.nextInt(KEYS)], "updated", TTL);
+    }
+
+    @Benchmark
+    public Map<String, Object> getBulk() {
+        return provider.getBulk(bulkKeys);
+    }
+}
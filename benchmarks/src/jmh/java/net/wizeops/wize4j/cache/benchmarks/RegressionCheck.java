@@ -0,0 +1,120 @@
+package net.wizeops.wize4j.cache.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and exits with status 1 when a benchmark got worse than
+ * the baseline by more than the threshold.
+ * <p>
+ * A change counts as a regression only if it also exceeds the combined error margins of both
+ * runs, so noisy benchmarks do not fail the check. Throughput scores regress when they
+ * decrease; time-based scores when they increase.
+ * <p>
+ * Usage: {@code RegressionCheck <baseline.json> <results.json> [thresholdPercent]}
+ */
+public final class RegressionCheck {
+
+    private RegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionCheck <baseline.json> <results.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        Path baselineFile = Path.of(args[0]);
+        Path resultsFile = Path.of(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        if (!Files.exists(baselineFile)) {
+            System.err.println("No baseline at " + baselineFile + ", run the jmhBaseline task first");
+            System.exit(2);
+        }
+        if (!Files.exists(resultsFile)) {
+            System.err.println("No results at " + resultsFile + ", run the jmh task first");
+            System.exit(2);
+        }
+
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> results = read(resultsFile);
+
+        int regressions = 0;
+        System.out.printf("%-75s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-75s %14s %14.3f %9s  (new)%n", entry.getKey(), "-", current.score(), "");
+                continue;
+            }
+
+            double improvement = current.improvementOver(base);
+            boolean regressed = improvement < -threshold && current.differsFrom(base);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), base.score(), current.score(),
+                    improvement, current.unit(), regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.printf("%-75s  (not run)%n", key));
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf("No regression beyond %.1f%%%n", threshold);
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+                JsonObject run = element.getAsJsonObject();
+                JsonObject metric = run.getAsJsonObject("primaryMetric");
+                String mode = run.get("mode").getAsString();
+
+                Map<String, String> params = new TreeMap<>();
+                if (run.has("params")) {
+                    run.getAsJsonObject("params").entrySet()
+                            .forEach(param -> params.put(param.getKey(), param.getValue().getAsString()));
+                }
+                // Classe.méthode, sans le package
+                String benchmark = run.get("benchmark").getAsString();
+                benchmark = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+                String key = benchmark + (params.isEmpty() ? "" : " " + params) + " [" + mode + "]";
+
+                scores.put(key, new Score(mode, metric.get("score").getAsDouble(),
+                        metric.get("scoreError").getAsDouble(), metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return scores;
+    }
+
+    private record Score(String mode, double score, double error, String unit) {
+
+        /**
+         * Relative change in percent, positive when this score is better than {@code base}.
+         */
+        double improvementOver(Score base) {
+            double change = (score - base.score) / base.score * 100;
+            return "thrpt".equals(mode) ? change : -change;
+        }
+
+        boolean differsFrom(Score base) {
+            double margin = (Double.isNaN(error) ? 0 : error) + (Double.isNaN(base.error) ? 0 : base.error);
+            return Math.abs(score - base.score) > margin;
+        }
+    }
+}
@@ -11,6 +11,13 @@ public @interface Cacheable {
     String value();
     String key() default "";
     long ttlSeconds() default 3600;
+    /**
+     * Age after which a hit still returns the cached value but starts one background reload,
+     * which invokes the method again with the arguments of that call. The reload runs on the
+     * cache manager's refresh pool, without the caller's thread-bound context (security,
+     * transaction, MDC). 0 disables refresh-ahead.
+     */
+    long refreshAfterSeconds() default 0;
 }
 
 
@@ -0,0 +1,37 @@
+package net.wizeops.wize4j.cache.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches a method such as {@code Map<Long, User> findByIds(Collection<Long> ids)} per element
+ * of its collection argument. All elements are looked up with one bulk call, the method runs
+ * only with the missing ones, and what it returns is stored with one bulk put.
+ * <p>
+ * The collection parameter may be declared as {@code Collection}, {@code List} or {@code Set},
+ * and the method must return a {@code Map} keyed by the elements it was given. Elements it
+ * leaves out are absent from the result and are not cached.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheableBatch {
+    String value();
+
+    /**
+     * Name of the collection parameter; the first {@code Collection} parameter when empty.
+     */
+    String ids() default "";
+
+    /**
+     * Key of one element, where the collection parameter stands for that element, e.g.
+     * {@code "user:#ids"} or {@code "#ids.id"}. When empty, the element's {@code toString()}
+     * is the key, as with {@code @Cacheable(key = "#id")} on a single-element method. Distinct
+     * elements that render to the same key, such as {@code 1L} and {@code "1"}, make the call
+     * fail with a {@code CacheException}.
+     */
+    String key() default "";
+
+    long ttlSeconds() default 3600;
+}
@@ -0,0 +1,24 @@
+package net.wizeops.wize4j.cache.api;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link CacheProvider} for remote providers. Futures are
+ * completed by the client I/O threads; callers should not block in dependent stages.
+ */
+public interface AsyncCacheProvider extends CacheProvider {
+
+    CompletableFuture<Object> getAsync(String key);
+
+    CompletableFuture<Void> putAsync(String key, Object value, Duration ttl);
+
+    CompletableFuture<Void> evictAsync(String key);
+
+    /**
+     * @return the entries found; missing keys are absent from the map
+     */
+    CompletableFuture<Map<String, Object>> getBulkAsync(Collection<String> keys);
+}
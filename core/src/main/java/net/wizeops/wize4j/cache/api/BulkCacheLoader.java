@@ -0,0 +1,15 @@
+package net.wizeops.wize4j.cache.api;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads the values of several keys at once.
+ */
+@FunctionalInterface
+public interface BulkCacheLoader {
+    /**
+     * @return the values found, by key; keys left out or mapped to null are not cached
+     */
+    Map<String, ?> loadAll(Set<String> keys) throws Exception;
+}
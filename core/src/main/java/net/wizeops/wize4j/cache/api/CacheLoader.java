@@ -0,0 +1,6 @@
+package net.wizeops.wize4j.cache.api;
+
+@FunctionalInterface
+public interface CacheLoader<T> {
+    T load() throws Exception;
+}
@@ -4,8 +4,10 @@ import net.wizeops.wize4j.cache.core.CacheStatistics;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public interface CacheProvider extends AutoCloseable {
     void put(String key, Object value, Duration ttl);
@@ -34,14 +36,71 @@ public interface CacheProvider extends AutoCloseable {
         return false;
     }
 
+    /**
+     * Remaining time to live of {@code key}, or null when the key is absent, never expires or
+     * the provider cannot tell.
+     */
+    default Duration getRemainingTtl(String key) {
+        return null;
+    }
+
+    /**
+     * Remaining time to live of each key that has one; see {@link #getRemainingTtl(String)}.
+     * Remote providers override this to fetch all of them in one round trip.
+     */
+    default Map<String, Duration> getRemainingTtls(Collection<String> keys) {
+        Map<String, Duration> result = new HashMap<>();
+        for (String key : keys) {
+            Duration ttl = getRemainingTtl(key);
+            if (ttl != null) {
+                result.put(key, ttl);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the entries found; missing keys are absent from the map
+     */
     default Map<String, Object> getBulk(Collection<String> keys) {
-        return keys.stream()
-                .collect(Collectors.toMap(
-                        key -> key,
-                        this::get,
-                        (v1, v2) -> v1
-                ));
+        Map<String, Object> result = new HashMap<>();
+        for (String key : keys) {
+            Object value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stores all entries with the same TTL; null keys and values are skipped.
+     */
+    default void putBulk(Map<String, Object> entries, Duration ttl) {
+        putBulk(entries, key -> ttl);
     }
-}
 
+    /**
+     * Stores all entries, each with the TTL returned by {@code ttlForKey}; null keys and
+     * values are skipped. Providers with a multi-key write override this, the default issues
+     * one put per entry.
+     */
+    default void putBulk(Map<String, Object> entries, Function<String, Duration> ttlForKey) {
+        entries.forEach((key, value) -> {
+            if (key != null && value != null) {
+                put(key, value, ttlForKey.apply(key));
+            }
+        });
+    }
 
+    /**
+     * @return the number of entries removed, or the number of distinct keys when the provider
+     * cannot tell which of them were present
+     */
+    default long evictBulk(Collection<String> keys) {
+        Collection<String> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.remove(null);
+        distinctKeys.forEach(this::evict);
+        return distinctKeys.size();
+    }
+}
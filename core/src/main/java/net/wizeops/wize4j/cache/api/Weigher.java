@@ -0,0 +1,19 @@
+package net.wizeops.wize4j.cache.api;
+
+import net.wizeops.wize4j.cache.eviction.RetainedSizeWeigher;
+
+/**
+ * Computes the weight in bytes of a cache entry, for caches bounded by
+ * {@code maxWeightBytes}. The weigher runs on every write, outside of any lock, and receives
+ * the value as stored: the compressed {@code byte[]} when the cache compresses it.
+ * Implementations must be thread-safe and cheap.
+ */
+@FunctionalInterface
+public interface Weigher {
+
+    long weigh(String key, Object value);
+
+    static Weigher defaultWeigher() {
+        return RetainedSizeWeigher.INSTANCE;
+    }
+}
@@ -0,0 +1,13 @@
+package net.wizeops.wize4j.cache.compression;
+
+/**
+ * Byte-level compression algorithm. Implementations must be thread-safe.
+ */
+public interface CompressionCodec {
+
+    String name();
+
+    byte[] compress(byte[] data);
+
+    byte[] decompress(byte[] compressed);
+}
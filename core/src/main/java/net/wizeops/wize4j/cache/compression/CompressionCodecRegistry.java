@@ -0,0 +1,58 @@
+package net.wizeops.wize4j.cache.compression;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Codecs available to {@code CacheConfiguration.compressionCodec}, by name.
+ * <p>
+ * The LZ4 and Zstd codecs are created on first use so their libraries only need to be on
+ * the classpath of applications that select them. Applications can register their own codecs.
+ */
+@Slf4j
+public final class CompressionCodecRegistry {
+    public static final String GZIP = "gzip";
+    public static final String LZ4 = "lz4";
+    public static final String ZSTD = "zstd";
+
+    private static final Map<String, Supplier<CompressionCodec>> FACTORIES = new ConcurrentHashMap<>();
+    private static final Map<String, CompressionCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        FACTORIES.put(GZIP, () -> GzipCodec.INSTANCE);
+        FACTORIES.put(LZ4, Lz4Codec::new);
+        FACTORIES.put(ZSTD, ZstdCodec::new);
+    }
+
+    private CompressionCodecRegistry() {
+    }
+
+    public static void register(CompressionCodec codec) {
+        FACTORIES.put(codec.name(), () -> codec);
+        CODECS.put(codec.name(), codec);
+    }
+
+    public static CompressionCodec get(String name) {
+        if (name == null) {
+            throw new CacheException("Compression codec name is null");
+        }
+        CompressionCodec codec = CODECS.get(name);
+        if (codec != null) {
+            return codec;
+        }
+        Supplier<CompressionCodec> factory = FACTORIES.get(name);
+        if (factory == null) {
+            throw new CacheException("Unknown compression codec: " + name);
+        }
+        try {
+            return CODECS.computeIfAbsent(name, n -> factory.get());
+        } catch (LinkageError e) {
+            log.error("Compression codec {} is not available. Make sure its library is added as a dependency.", name);
+            throw new CacheException("Compression codec not available: " + name, e);
+        }
+    }
+}
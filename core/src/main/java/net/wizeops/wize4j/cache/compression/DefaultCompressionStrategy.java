@@ -1,16 +1,35 @@
 package net.wizeops.wize4j.cache.compression;
 
-import net.wizeops.wize4j.cache.utils.CacheUtil;
+import net.wizeops.wize4j.cache.serialization.Serializer;
 
+/**
+ * Serializes the value with the cache's {@link Serializer} and compresses the bytes with a
+ * {@link CompressionCodec} (GZIP unless configured otherwise).
+ */
 public class DefaultCompressionStrategy implements CompressionStrategy {
+    private final Serializer serializer;
+    private final CompressionCodec codec;
+
+    public DefaultCompressionStrategy() {
+        this(Serializer.defaultSerializer(), GzipCodec.INSTANCE);
+    }
+
+    public DefaultCompressionStrategy(Serializer serializer) {
+        this(serializer, GzipCodec.INSTANCE);
+    }
+
+    public DefaultCompressionStrategy(Serializer serializer, CompressionCodec codec) {
+        this.serializer = serializer;
+        this.codec = codec;
+    }
+
     @Override
     public byte[] compress(Object value) {
-        return CacheUtil.compress(value);
+        return codec.compress(serializer.serialize(value));
     }
 
     @Override
     public Object decompress(byte[] compressed) {
-        return CacheUtil.decompress(compressed);
+        return serializer.deserialize(codec.decompress(compressed));
     }
 }
-
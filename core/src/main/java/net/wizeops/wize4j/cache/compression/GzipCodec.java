@@ -0,0 +1,48 @@
+package net.wizeops.wize4j.cache.compression;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JDK GZIP: no extra dependency, good ratio, slowest of the built-in codecs.
+ */
+@Slf4j
+public class GzipCodec implements CompressionCodec {
+    public static final GzipCodec INSTANCE = new GzipCodec();
+
+    @Override
+    public String name() {
+        return CompressionCodecRegistry.GZIP;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        if (data == null) return null;
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.max(32, data.length / 2));
+             GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
+            gzos.write(data);
+            gzos.finish();
+            return baos.toByteArray();
+        } catch (IOException e) {
+            log.error("Error compressing object", e);
+            throw new CacheException("Failed to compress object", e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+        if (compressed == null) return null;
+        try (GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzis.readAllBytes();
+        } catch (IOException e) {
+            log.error("Error decompressing object", e);
+            throw new CacheException("Failed to decompress object", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package net.wizeops.wize4j.cache.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.util.Arrays;
+
+/**
+ * LZ4 block compression: a few hundred MB/s per core on both sides, moderate ratio.
+ * Suited to the read/write hot path. Requires {@code org.lz4:lz4-java} on the classpath.
+ * <p>
+ * Block format: 4-byte big-endian original length followed by the LZ4 block.
+ */
+public class Lz4Codec implements CompressionCodec {
+    private static final int HEADER_SIZE = 4;
+
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    public Lz4Codec() {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    @Override
+    public String name() {
+        return CompressionCodecRegistry.LZ4;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        if (data == null) return null;
+        int maxLength = compressor.maxCompressedLength(data.length);
+        byte[] out = new byte[HEADER_SIZE + maxLength];
+        out[0] = (byte) (data.length >>> 24);
+        out[1] = (byte) (data.length >>> 16);
+        out[2] = (byte) (data.length >>> 8);
+        out[3] = (byte) data.length;
+        int length = compressor.compress(data, 0, data.length, out, HEADER_SIZE, maxLength);
+        return Arrays.copyOf(out, HEADER_SIZE + length);
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+        if (compressed == null) return null;
+        if (compressed.length < HEADER_SIZE) {
+            throw new CacheException("Failed to decompress object: truncated LZ4 block");
+        }
+        int length = ((compressed[0] & 0xFF) << 24) | ((compressed[1] & 0xFF) << 16)
+                | ((compressed[2] & 0xFF) << 8) | (compressed[3] & 0xFF);
+        // Un octet de bloc LZ4 produit au plus 255 octets : au-delà, l'en-tête est corrompu
+        if (length < 0 || length > (compressed.length - HEADER_SIZE) * 255L) {
+            throw new CacheException("Failed to decompress object: invalid LZ4 block length " + length);
+        }
+        byte[] out = new byte[length];
+        int decompressed;
+        try {
+            decompressed = decompressor.decompress(compressed, HEADER_SIZE, compressed.length - HEADER_SIZE, out, 0, length);
+        } catch (RuntimeException e) {
+            throw new CacheException("Failed to decompress object", e);
+        }
+        if (decompressed != length) {
+            throw new CacheException("Failed to decompress object: corrupted LZ4 block");
+        }
+        return out;
+    }
+}
@@ -0,0 +1,53 @@
+package net.wizeops.wize4j.cache.compression;
+
+import com.github.luben.zstd.Zstd;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+/**
+ * Zstandard: ratio close to or better than GZIP at several times its speed. Suited to
+ * large, rarely read values. Requires {@code com.github.luben:zstd-jni} on the classpath.
+ */
+public class ZstdCodec implements CompressionCodec {
+    public static final int DEFAULT_LEVEL = 3;
+
+    private final int level;
+
+    public ZstdCodec() {
+        this(DEFAULT_LEVEL);
+    }
+
+    public ZstdCodec(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String name() {
+        return CompressionCodecRegistry.ZSTD;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        if (data == null) return null;
+        try {
+            return Zstd.compress(data, level);
+        } catch (RuntimeException e) {
+            throw new CacheException("Failed to compress object", e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+        if (compressed == null) return null;
+        try {
+            long length = Zstd.getFrameContentSize(compressed);
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new CacheException("Failed to decompress object: unknown Zstd frame size");
+            }
+            return Zstd.decompress(compressed, (int) length);
+        } catch (CacheException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CacheException("Failed to decompress object", e);
+        }
+    }
+}
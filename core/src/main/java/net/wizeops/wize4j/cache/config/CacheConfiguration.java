@@ -3,11 +3,16 @@ package net.wizeops.wize4j.cache.config;
 import lombok.Data;
 import lombok.Builder;
 import net.wizeops.wize4j.cache.api.CacheProvider;
+import net.wizeops.wize4j.cache.api.Weigher;
+import net.wizeops.wize4j.cache.compression.CompressionCodecRegistry;
+import net.wizeops.wize4j.cache.core.Ticker;
+import net.wizeops.wize4j.cache.serialization.Serializer;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class CacheConfiguration {
     @Builder.Default
     private CacheProviderType providerType = CacheProviderType.IN_MEMORY;
@@ -21,9 +26,32 @@ public class CacheConfiguration {
     @Builder.Default
     private int maxSize = 10000;
 
+    // Limite en octets (0 = aucune) ; remplace maxSize pour le cache en mémoire et Caffeine,
+    // maxSize ne servant plus qu'à dimensionner les structures de la politique d'éviction
+    private long maxWeightBytes;
+
+    @Builder.Default
+    private Weigher weigher = Weigher.defaultWeigher();
+
     @Builder.Default
     private int cleanupIntervalMinutes = 5;
 
+    // Horloge utilisée pour l'expiration (grossière par défaut, remplaçable en test) ;
+    // son thread ne démarre qu'à la première lecture par un provider
+    @Builder.Default
+    private Ticker ticker = Ticker.coarse();
+
+    // Politique d'éviction quand maxSize est atteint
+    @Builder.Default
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    // Rafraîchissement en arrière-plan (refresh-ahead)
+    @Builder.Default
+    private int refreshPoolSize = 4;
+
+    @Builder.Default
+    private int refreshQueueCapacity = 1024;
+
     // Compression
     @Builder.Default
     private boolean enableCompression = false;
@@ -31,23 +59,96 @@ public class CacheConfiguration {
     @Builder.Default
     private long compressionThresholdBytes = 1024;
 
+    // Codec : "gzip", "lz4" (rapide) ou "zstd" (meilleur ratio), cf. CompressionCodecRegistry
+    @Builder.Default
+    private String compressionCodec = CompressionCodecRegistry.GZIP;
+
+    @Builder.Default
+    private Map<String, String> cacheCompressionCodecs = Map.of();
+
+    // Cache à deux niveaux (TIERED) : L1 en mémoire devant un L2 distant
+    @Builder.Default
+    private CacheProviderType tieredRemoteType = CacheProviderType.REDIS;
+
+    @Builder.Default
+    private int tieredLocalMaxSize = 1000;
+
+    @Builder.Default
+    private long tieredLocalTtlSeconds = 60;
+
+    // Sérialisation (Redis, off-heap, compression) ; surchargeable par nom de cache
+    @Builder.Default
+    private Serializer serializer = Serializer.defaultSerializer();
+
+    @Builder.Default
+    private Map<String, Serializer> cacheSerializers = Map.of();
+
+    // Instantanés du cache en mémoire (redémarrage à chaud) : répertoire, période en secondes
+    // (0 = seulement à la fermeture) et nombre de threads de chargement
+    private String snapshotPath;
+
+    private long snapshotIntervalSeconds;
+
+    @Builder.Default
+    private int snapshotLoadThreads = Runtime.getRuntime().availableProcessors();
+
+    // Off-heap
+    @Builder.Default
+    private long offHeapMaxBytes = 256L * 1024 * 1024;
+
+    @Builder.Default
+    private int offHeapSlabSizeBytes = 1024 * 1024;
+
     // Statistiques
     @Builder.Default
     private boolean enableStatistics = true;
 
+    // Histogrammes de latence des get/put/evict mesurés par CacheManager (deux appels à
+    // System.nanoTime() par opération) ; le temps des loaders est toujours mesuré
+    @Builder.Default
+    private boolean enableLatencyHistograms = true;
+
     // Redis
     private String redisHost;
     private int redisPort;
     private String redisPassword;
     private int redisDatabase;
 
+    // Nombre de clés par commande MGET / pipeline pour les opérations en masse
+    @Builder.Default
+    private int redisBatchSize = 500;
+
+    // Near cache : copie locale des lectures, invalidée par CLIENT TRACKING (Redis 6+, RESP3)
+    private boolean redisNearCacheEnabled;
+
+    @Builder.Default
+    private int redisNearCacheMaxSize = 10000;
+
+    @Builder.Default
+    private long redisNearCacheTtlSeconds = 60;
+
     // Hazelcast
     private List<String> hazelcastMembers;
     private String hazelcastGroupName;
     private String hazelcastConfigPath;
 
-    // EhCache
+    // Nombre de clés par getAll / lot d'écritures et suppressions asynchrones en masse
+    @Builder.Default
+    private int hazelcastBatchSize = 1000;
+
+    // EhCache : tas (maxSize entrées), off-heap (offHeapMaxBytes, 0 pour désactiver) puis disque
     private String ehcacheConfigPath;
     private boolean diskPersistence;
     private String diskStorePath;
-}
\ No newline at end of file
+
+    @Builder.Default
+    private long ehcacheDiskMaxBytes = 1024L * 1024 * 1024;
+
+    public Serializer serializerFor(String cacheName) {
+        return cacheSerializers.getOrDefault(cacheName, serializer);
+    }
+
+    public String compressionCodecFor(String cacheName) {
+        return cacheCompressionCodecs.getOrDefault(cacheName, compressionCodec);
+    }
+}
@@ -2,8 +2,11 @@ package net.wizeops.wize4j.cache.config;
 
 public enum CacheProviderType {
     IN_MEMORY,
+    CAFFEINE,
+    OFF_HEAP,
     REDIS,
     EHCACHE,
     HAZELCAST,
+    TIERED,
     CUSTOM
 }
@@ -0,0 +1,6 @@
+package net.wizeops.wize4j.cache.config;
+
+public enum EvictionPolicy {
+    LRU,
+    W_TINY_LFU
+}
@@ -3,17 +3,35 @@ package net.wizeops.wize4j.cache.core;
 import lombok.extern.slf4j.Slf4j;
 import net.wizeops.wize4j.cache.annotations.CacheEvict;
 import net.wizeops.wize4j.cache.annotations.Cacheable;
+import net.wizeops.wize4j.cache.annotations.CacheableBatch;
+import net.wizeops.wize4j.cache.api.CacheLoader;
+import net.wizeops.wize4j.cache.events.CacheableCallEvent;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.exceptions.CacheLoadingException;
 import net.wizeops.wize4j.cache.manager.CacheManager;
 import net.wizeops.wize4j.cache.utils.KeyGenerator;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
 @Slf4j
 @Aspect
 public class CacheAspect {
+    // Entrée que le thread courant recharge en ré-invoquant la méthode (refresh en arrière-plan)
+    private static final ThreadLocal<RefreshingEntry> REFRESHING = new ThreadLocal<>();
+
     private final CacheManager cacheManager;
 
     public CacheAspect(CacheManager cacheManager) {
@@ -23,23 +41,121 @@ public class CacheAspect {
     @Around("@annotation(cacheable)")
     public Object cacheable(ProceedingJoinPoint joinPoint, Cacheable cacheable) throws Throwable {
         String cacheKey = KeyGenerator.generateKey(joinPoint, cacheable.key());
-        Object cachedValue = cacheManager.get(cacheable.value(), cacheKey);
+        RefreshingEntry refreshing = REFRESHING.get();
+        if (refreshing != null && refreshing.is(cacheable.value(), cacheKey)) {
+            // Appel du refresh : le CacheManager stocke lui-même la nouvelle valeur
+            return joinPoint.proceed();
+        }
 
-        if (cachedValue != null) {
-            log.debug("Cache hit for key: {}", cacheKey);
-            return cachedValue;
+        CacheableCallEvent event = CacheableCallEvent.start();
+        Object result = null;
+
+        try {
+            Duration refreshAfter = null;
+            CacheLoader<Object> refreshLoader = null;
+            if (cacheable.refreshAfterSeconds() > 0) {
+                refreshAfter = Duration.ofSeconds(cacheable.refreshAfterSeconds());
+                // The join point cannot be proceeded once this advice has returned: the
+                // background refresh invokes the method again with the same arguments
+                refreshLoader = refreshLoader(joinPoint, new RefreshingEntry(cacheable.value(), cacheKey));
+            }
+            result = cacheManager.get(cacheable.value(), cacheKey, () -> {
+                        if (event != null) {
+                            event.markLoaded();
+                        }
+                        return proceed(joinPoint);
+                    }, refreshLoader,
+                    Duration.ofSeconds(cacheable.ttlSeconds()), refreshAfter);
+            return result;
+        } catch (CacheLoadingException e) {
+            // Checked exception thrown by the annotated method itself
+            throw e.getCause();
+        } finally {
+            if (event != null) {
+                event.finish(cacheable.value(), cacheManager.getProviderName(cacheable.value()),
+                        joinPoint.getSignature().toShortString(), cacheKey, result);
+            }
+        }
+    }
+
+    @Around("@annotation(cacheableBatch)")
+    public Object cacheableBatch(ProceedingJoinPoint joinPoint, CacheableBatch cacheableBatch) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        int index = batchParameterIndex(signature, cacheableBatch.ids());
+        Class<?> parameterType = signature.getParameterTypes()[index];
+        if (!signature.getReturnType().isAssignableFrom(LinkedHashMap.class)) {
+            throw new CacheException("@CacheableBatch method must return a Map: " + signature.toShortString());
+        }
+        if (!parameterType.isAssignableFrom(ArrayList.class) && !parameterType.isAssignableFrom(LinkedHashSet.class)) {
+            throw new CacheException("Unsupported @CacheableBatch parameter type: " + parameterType.getName());
         }
 
-        log.debug("Cache miss for key: {}", cacheKey);
-        Object result = joinPoint.proceed();
+        Object[] args = joinPoint.getArgs();
+        if (!(args[index] instanceof Collection<?> ids) || ids.isEmpty()) {
+            return joinPoint.proceed();
+        }
 
-        if (result != null) {
-            cacheManager.put(cacheable.value(), cacheKey, result,
-                    Duration.ofSeconds(cacheable.ttlSeconds()));
-            log.debug("Cached result for key: {}", cacheKey);
+        // Un élément répété n'est cherché et chargé qu'une fois
+        String[] keys = KeyGenerator.generateElementKeys(joinPoint, cacheableBatch.key(), index, ids);
+        Map<String, Object> idsByKey = new LinkedHashMap<>();
+        Map<Object, String> keysById = new HashMap<>();
+        int i = 0;
+        for (Object id : ids) {
+            Object previous = idsByKey.putIfAbsent(keys[i], id);
+            if (previous != null && !previous.equals(id)) {
+                // Deux éléments distincts (1L et "1"...) partageraient une entrée : l'un ne serait jamais chargé
+                throw new CacheException("@CacheableBatch elements " + previous + " and " + id
+                        + " map to the same key '" + keys[i] + "': " + signature.toShortString());
+            }
+            keysById.putIfAbsent(id, keys[i]);
+            i++;
         }
 
-        return result;
+        CacheableCallEvent event = CacheableCallEvent.start();
+        Map<Object, Object> result = null;
+
+        try {
+            Map<String, Object> values = cacheManager.getAll(cacheableBatch.value(), idsByKey.keySet(), missingKeys -> {
+                if (event != null) {
+                    event.markLoaded();
+                }
+                Collection<Object> missingIds = parameterType.isAssignableFrom(ArrayList.class)
+                        ? new ArrayList<>(missingKeys.size()) : new LinkedHashSet<>();
+                for (String key : missingKeys) {
+                    missingIds.add(idsByKey.get(key));
+                }
+                Object[] loadArgs = args.clone();
+                loadArgs[index] = missingIds;
+
+                Map<String, Object> loaded = new HashMap<>();
+                if (proceed(joinPoint, loadArgs) instanceof Map<?, ?> found) {
+                    found.forEach((id, value) -> {
+                        String key = keysById.get(id);
+                        if (key != null && value != null) {
+                            loaded.put(key, value);
+                        }
+                    });
+                }
+                return loaded;
+            }, Duration.ofSeconds(cacheableBatch.ttlSeconds()));
+
+            result = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : idsByKey.entrySet()) {
+                Object value = values.get(entry.getKey());
+                if (value != null) {
+                    result.put(entry.getValue(), value);
+                }
+            }
+            return result;
+        } catch (CacheLoadingException e) {
+            // Checked exception thrown by the annotated method itself
+            throw e.getCause();
+        } finally {
+            if (event != null) {
+                event.finish(cacheableBatch.value(), cacheManager.getProviderName(cacheableBatch.value()),
+                        signature.toShortString(), idsByKey.size() + " keys", result);
+            }
+        }
     }
 
     @Around("@annotation(cacheEvict)")
@@ -55,6 +171,75 @@ public class CacheAspect {
 
         return joinPoint.proceed();
     }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) throws Exception {
+        return proceed(joinPoint, null);
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, Object[] args) throws Exception {
+        try {
+            return args != null ? joinPoint.proceed(args) : joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static CacheLoader<Object> refreshLoader(ProceedingJoinPoint joinPoint, RefreshingEntry entry) {
+        Object target = joinPoint.getTarget();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs().clone();
+        return () -> invokeForRefresh(target, method, args, entry);
+    }
+
+    private static Object invokeForRefresh(Object target, Method method, Object[] args,
+                                           RefreshingEntry entry) throws Exception {
+        RefreshingEntry previous = REFRESHING.get();
+        REFRESHING.set(entry);
+        try {
+            method.trySetAccessible();
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(cause);
+        } finally {
+            if (previous != null) {
+                REFRESHING.set(previous);
+            } else {
+                REFRESHING.remove();
+            }
+        }
+    }
+
+    private record RefreshingEntry(String cacheName, String key) {
+        boolean is(String cacheName, String key) {
+            return this.cacheName.equals(cacheName) && this.key.equals(key);
+        }
+    }
+
+    /**
+     * Index of the {@code Collection} parameter named {@code name}, or of the first one when
+     * {@code name} is empty.
+     */
+    private static int batchParameterIndex(MethodSignature signature, String name) {
+        Class<?>[] types = signature.getParameterTypes();
+        String[] names = signature.getParameterNames();
+        for (int i = 0; i < types.length; i++) {
+            if (Collection.class.isAssignableFrom(types[i])
+                    && (name.isEmpty() || (names != null && name.equals(names[i])))) {
+                return i;
+            }
+        }
+        throw new CacheException("No collection parameter" + (name.isEmpty() ? "" : " '" + name + "'")
+                + " on " + signature.toShortString());
+    }
 }
 
 
@@ -2,40 +2,79 @@ package net.wizeops.wize4j.cache.core;
 
 import lombok.Getter;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
-@Getter
+/**
+ * Flat entry layout: access metadata lives in primitive fields updated through
+ * VarHandles instead of separate AtomicLong/AtomicInteger objects. Access tracking
+ * is deliberately lossy (opaque writes, no CAS) since it only feeds heuristics.
+ */
 public class CacheEntry {
+    private static final VarHandle LAST_ACCESS_TIME;
+    private static final VarHandle ACCESS_COUNT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LAST_ACCESS_TIME = lookup.findVarHandle(CacheEntry.class, "lastAccessTime", long.class);
+            ACCESS_COUNT = lookup.findVarHandle(CacheEntry.class, "accessCount", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Getter
     private final Object value;
+    @Getter
     private final long expirationTime;
-    private final AtomicLong lastAccessTime;
-    private final AtomicInteger accessCount;
+    @Getter
     private final boolean compressed;
+    @SuppressWarnings("unused")
+    private long lastAccessTime;
+    @SuppressWarnings("unused")
+    private int accessCount;
 
-    public CacheEntry(Object value, long expirationTime, boolean compressed) {
+    public CacheEntry(Object value, long expirationTime, boolean compressed, long creationTime) {
         this.value = value;
         this.expirationTime = expirationTime;
-        this.lastAccessTime = new AtomicLong(System.currentTimeMillis());
-        this.accessCount = new AtomicInteger(0);
         this.compressed = compressed;
+        this.lastAccessTime = creationTime;
+    }
+
+    public CacheEntry(Object value, long expirationTime, boolean compressed) {
+        this(value, expirationTime, compressed, System.currentTimeMillis());
     }
 
     public CacheEntry(Object value, long expirationTime) {
         this(value, expirationTime, false);
     }
 
-    public boolean isExpired() {
-        return System.currentTimeMillis() > expirationTime;
+    public long getLastAccessTime() {
+        return (long) LAST_ACCESS_TIME.getOpaque(this);
     }
 
-    public void recordAccess() {
-        lastAccessTime.set(System.currentTimeMillis());
-        accessCount.incrementAndGet();
+    public int getAccessCount() {
+        return (int) ACCESS_COUNT.getOpaque(this);
     }
-}
-
 
+    public boolean isExpired(long now) {
+        return now > expirationTime;
+    }
 
+    public boolean isExpired() {
+        return isExpired(System.currentTimeMillis());
+    }
 
+    public void recordAccess(long now) {
+        // Skip the store when the clock did not move to keep the cache line clean
+        if ((long) LAST_ACCESS_TIME.getOpaque(this) != now) {
+            LAST_ACCESS_TIME.setOpaque(this, now);
+        }
+        ACCESS_COUNT.setOpaque(this, (int) ACCESS_COUNT.getOpaque(this) + 1);
+    }
 
+    public void recordAccess() {
+        recordAccess(System.currentTimeMillis());
+    }
+}
@@ -1,49 +1,235 @@
 package net.wizeops.wize4j.cache.core;
 
-import lombok.Getter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
-import java.util.concurrent.atomic.AtomicLong;
-
-@Getter
+/**
+ * Counters and latency histograms of one cache. Counters are {@link LongAdder}s, so threads
+ * recording at the same time do not contend on a shared value; {@link #snapshot()} gives a
+ * single immutable view of all of them.
+ */
 public class CacheStatistics {
-    private final AtomicLong hits = new AtomicLong();
-    private final AtomicLong misses = new AtomicLong();
-    private final AtomicLong puts = new AtomicLong();
-    private final AtomicLong evictions = new AtomicLong();
-    private final AtomicLong clearCount = new AtomicLong();
-    private final AtomicLong size = new AtomicLong();
-    private final AtomicLong totalLoadTime = new AtomicLong();
+
+    /**
+     * Operations whose latency is recorded.
+     */
+    public enum Operation {
+        GET, PUT, EVICT, LOAD
+    }
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder clearCount = new LongAdder();
+    private final LongAdder rejectedPuts = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    // Near cache (copie locale d'un cache distant)
+    private final LongAdder nearCacheHits = new LongAdder();
+    private final LongAdder nearCacheInvalidations = new LongAdder();
+    private final LongAdder nearCacheStaleDiscards = new LongAdder();
+
+    // Taille lue chez le provider : poids total, ou nombre d'entrées sans limite de poids
+    private volatile LongSupplier size = () -> 0;
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    // Statistiques de chaque niveau (L1, L2) pour les caches composés
+    private final Map<String, CacheStatistics> tiers = new ConcurrentHashMap<>();
+
+    public CacheStatistics() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getClearCount() {
+        return clearCount.sum();
+    }
+
+    /**
+     * Puts the provider refused to store, for example a value larger than an off-heap slab.
+     */
+    public long getRejectedPuts() {
+        return rejectedPuts.sum();
+    }
+
+    /**
+     * Current weight of the cache in bytes when it is bounded by {@code maxWeightBytes},
+     * otherwise its number of entries; 0 when the provider does not report it.
+     */
+    public long getSize() {
+        return size.getAsLong();
+    }
+
+    /**
+     * Time spent in loaders, in nanoseconds.
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+    public long getNearCacheHits() {
+        return nearCacheHits.sum();
+    }
+
+    public long getNearCacheInvalidations() {
+        return nearCacheInvalidations.sum();
+    }
+
+    public long getNearCacheStaleDiscards() {
+        return nearCacheStaleDiscards.sum();
+    }
+
+    public Map<String, CacheStatistics> getTiers() {
+        return tiers;
+    }
 
     public double getHitRatio() {
-        long totalRequests = hits.get() + misses.get();
-        return totalRequests == 0 ? 0 : (double) hits.get() / totalRequests;
+        long hitCount = hits.sum();
+        long totalRequests = hitCount + misses.sum();
+        return totalRequests == 0 ? 0 : (double) hitCount / totalRequests;
+    }
+
+    public LatencyHistogram.Snapshot getLatency(Operation operation) {
+        return latencies.get(operation).snapshot();
     }
 
     public void recordHit() {
-        hits.incrementAndGet();
+        hits.increment();
     }
 
     public void recordMiss() {
-        misses.incrementAndGet();
+        misses.increment();
+    }
+
+    public void recordHits(int count) {
+        hits.add(count);
+    }
+
+    public void recordMisses(int count) {
+        misses.add(count);
     }
 
     public void recordPut() {
-        puts.incrementAndGet();
+        puts.increment();
+    }
+
+    public void recordPuts(int count) {
+        puts.add(count);
     }
 
     public void recordEviction() {
-        evictions.incrementAndGet();
+        evictions.increment();
     }
 
     public void recordClear(int size) {
-        clearCount.incrementAndGet();
-        evictions.addAndGet(size);
+        clearCount.increment();
+        evictions.add(size);
     }
 
     public void recordBulkEviction(int count) {
-        evictions.addAndGet(count);
+        evictions.add(count);
+    }
+
+    public void recordRejectedPut() {
+        rejectedPuts.increment();
+    }
+
+    public void recordNearCacheHit() {
+        nearCacheHits.increment();
+        hits.increment();
     }
-}
 
+    public void recordNearCacheInvalidations(int count) {
+        nearCacheInvalidations.add(count);
+    }
 
+    public void recordNearCacheStaleDiscards(long count) {
+        nearCacheStaleDiscards.add(count);
+    }
 
+    public void recordLatency(Operation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    /**
+     * Records one loader execution, successful or not.
+     */
+    public void recordLoad(long nanos) {
+        totalLoadTime.add(nanos);
+        latencies.get(Operation.LOAD).record(nanos);
+    }
+
+    /**
+     * Makes {@link #getSize()} read the size from the provider.
+     */
+    public void bindSize(LongSupplier size) {
+        this.size = size;
+    }
+
+    public void registerTier(String name, CacheStatistics tierStatistics) {
+        if (tierStatistics != null) {
+            tiers.put(name, tierStatistics);
+        }
+    }
+
+    public CacheStatistics getTier(String name) {
+        return tiers.get(name);
+    }
+
+    /**
+     * Reads every counter and histogram once. Each value is exact for the moment it was read;
+     * operations recorded while the snapshot is taken may be counted in some values only.
+     */
+    public Snapshot snapshot() {
+        Map<Operation, LatencyHistogram.Snapshot> latencySnapshots = new EnumMap<>(Operation.class);
+        latencies.forEach((operation, histogram) -> latencySnapshots.put(operation, histogram.snapshot()));
+        Map<String, Snapshot> tierSnapshots = new HashMap<>();
+        tiers.forEach((name, tier) -> tierSnapshots.put(name, tier.snapshot()));
+
+        return new Snapshot(hits.sum(), misses.sum(), puts.sum(), evictions.sum(), clearCount.sum(),
+                rejectedPuts.sum(), getSize(), totalLoadTime.sum(), nearCacheHits.sum(),
+                nearCacheInvalidations.sum(), nearCacheStaleDiscards.sum(),
+                Map.copyOf(latencySnapshots), Map.copyOf(tierSnapshots));
+    }
+
+    /**
+     * Immutable copy of the statistics of a cache, see {@link CacheStatistics#snapshot()}.
+     */
+    public record Snapshot(long hits, long misses, long puts, long evictions, long clearCount,
+                           long rejectedPuts, long size, long totalLoadTime, long nearCacheHits,
+                           long nearCacheInvalidations, long nearCacheStaleDiscards, Map<Operation, LatencyHistogram.Snapshot> latencies,
+                           Map<String, Snapshot> tiers) {
+
+        public double hitRatio() {
+            long totalRequests = hits + misses;
+            return totalRequests == 0 ? 0 : (double) hits / totalRequests;
+        }
+
+        public LatencyHistogram.Snapshot latency(Operation operation) {
+            return latencies.getOrDefault(operation, LatencyHistogram.Snapshot.EMPTY);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package net.wizeops.wize4j.cache.core;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The refresh thread starts on the first read, so that configurations holding this ticker
+ * without any provider reading it cost nothing.
+ */
+final class CoarseTicker implements Ticker {
+    static final CoarseTicker INSTANCE = new CoarseTicker(1);
+
+    private final long resolutionMillis;
+    // 0 tant que le thread de mise à jour n'est pas démarré
+    private volatile long now;
+
+    private CoarseTicker(long resolutionMillis) {
+        this.resolutionMillis = resolutionMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        long time = now;
+        return time != 0 ? time : start();
+    }
+
+    private synchronized long start() {
+        if (now == 0) {
+            now = System.currentTimeMillis();
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "cache-clock-thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(() -> now = System.currentTimeMillis(),
+                    resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+        }
+        return now;
+    }
+}
@@ -0,0 +1,167 @@
+package net.wizeops.wize4j.cache.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency distribution in nanoseconds, recorded without a shared counter.
+ * <p>
+ * Buckets are log-linear: 8 sub-buckets per power of two, so a reported percentile is within
+ * about 6% of the recorded value, up to 2^40 ns (about 18 minutes) where values are clamped.
+ * Recording threads are spread over stripes by thread id, each stripe being allocated the
+ * first time a thread lands on it, so a histogram only used by a few threads stays small.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BITS = 40;
+    private static final int BUCKETS = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+    // Après les buckets : somme puis maximum des valeurs de la bande
+    private static final int SUM = BUCKETS;
+    private static final int MAX = BUCKETS + 1;
+
+    private static final int STRIPES = Math.min(64,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        AtomicLongArray stripe = stripe();
+        stripe.incrementAndGet(bucketOf(value));
+        stripe.addAndGet(SUM, value);
+        long max = stripe.get(MAX);
+        while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+            max = stripe.get(MAX);
+        }
+    }
+
+    /**
+     * Sums the stripes. Recordings made during the call may be partly included, but the
+     * percentiles are always computed from the same bucket counts as {@code count}.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                long c = stripe.get(i);
+                counts[i] += c;
+                count += c;
+            }
+            total += stripe.get(SUM);
+            max = Math.max(max, stripe.get(MAX));
+        }
+        return new Snapshot(count, total, max, counts);
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS + 2));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Middle of the range of values falling into {@code bucket}.
+     */
+    static long valueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+
+    /**
+     * Immutable view of a histogram at one point in time.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, 0, 0, new long[BUCKETS]);
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] counts;
+
+        private Snapshot(long count, long totalNanos, long maxNanos, long[] counts) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.counts = counts;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Latency below which {@code quantile} (between 0 and 1) of the recordings fall, 0 when
+         * nothing was recorded.
+         */
+        public long percentile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(quantile, 0), 1) * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(valueOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        public long getP50Nanos() {
+            return percentile(0.5);
+        }
+
+        public long getP99Nanos() {
+            return percentile(0.99);
+        }
+
+        public long getP999Nanos() {
+            return percentile(0.999);
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", mean=" + Math.round(getMeanNanos()) + "ns, p50=" + getP50Nanos()
+                    + "ns, p99=" + getP99Nanos() + "ns, p999=" + getP999Nanos() + "ns, max=" + maxNanos + "ns";
+        }
+    }
+}
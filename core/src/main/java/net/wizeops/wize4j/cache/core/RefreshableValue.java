@@ -0,0 +1,18 @@
+package net.wizeops.wize4j.cache.core;
+
+import java.io.Serializable;
+
+/**
+ * Cached value stored together with the time after which it should be reloaded in
+ * the background. Stored as-is by providers so that remote tiers share the deadline.
+ */
+public record RefreshableValue(Object value, long refreshAt) implements Serializable {
+
+    public boolean isRefreshDue(long now) {
+        return now >= refreshAt;
+    }
+
+    public static Object unwrap(Object cached) {
+        return cached instanceof RefreshableValue refreshable ? refreshable.value() : cached;
+    }
+}
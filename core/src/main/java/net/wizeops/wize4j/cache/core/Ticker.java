@@ -0,0 +1,23 @@
+package net.wizeops.wize4j.cache.core;
+
+/**
+ * Source of wall-clock time in milliseconds for expiration checks.
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    long currentTimeMillis();
+
+    static Ticker system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * Shared clock refreshed every millisecond by a daemon thread: reading it is a single
+     * volatile load instead of a clock call on every cache access. The thread is started by
+     * the first read.
+     */
+    static Ticker coarse() {
+        return CoarseTicker.INSTANCE;
+    }
+}
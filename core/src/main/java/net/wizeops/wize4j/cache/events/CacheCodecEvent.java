@@ -0,0 +1,85 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
+
+/**
+ * Serialization or compression of a value, in either direction, slower than the threshold.
+ */
+@Name("net.wizeops.wize4j.CacheCodec")
+@Label("Cache Serialization/Compression")
+@Description("Value serialization, deserialization, compression or decompression")
+@Threshold("1 ms")
+@StackTrace(false)
+public class CacheCodecEvent extends CacheEvent {
+    public static final String SERIALIZE = "SERIALIZE";
+    public static final String DESERIALIZE = "DESERIALIZE";
+    public static final String COMPRESS = "COMPRESS";
+    public static final String DECOMPRESS = "DECOMPRESS";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Codec")
+    @Description("Serializer class or compression codec")
+    public String codec;
+
+    @Label("Input Size")
+    @Description("Bytes read, or estimated value size when serializing")
+    @DataAmount
+    public long inputSize;
+
+    @Label("Payload Size")
+    @Description("Bytes produced, or estimated value size when deserializing")
+    @DataAmount
+    public long payloadSize;
+
+    public static CacheCodecEvent start() {
+        CacheCodecEvent event = new CacheCodecEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a serialization or compression, {@code output} being the bytes produced.
+     */
+    public void finishEncode(String cacheName, String provider, String operation, String codec,
+                             Object input, byte[] output) {
+        end();
+        if (shouldCommit()) {
+            fill(cacheName, provider, operation, codec);
+            this.inputSize = input instanceof byte[] bytes ? bytes.length : CacheUtil.estimateObjectSize(input);
+            this.payloadSize = output != null ? output.length : 0;
+            commit();
+        }
+    }
+
+    /**
+     * Commits a deserialization or decompression of {@code input}.
+     */
+    public void finishDecode(String cacheName, String provider, String operation, String codec,
+                             byte[] input, Object output) {
+        end();
+        if (shouldCommit()) {
+            fill(cacheName, provider, operation, codec);
+            this.inputSize = input != null ? input.length : 0;
+            this.payloadSize = output instanceof byte[] bytes ? bytes.length : CacheUtil.estimateObjectSize(output);
+            commit();
+        }
+    }
+
+    private void fill(String cacheName, String provider, String operation, String codec) {
+        this.cacheName = cacheName;
+        this.provider = provider;
+        this.operation = operation;
+        this.codec = codec;
+    }
+}
@@ -0,0 +1,29 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the wize4j Java Flight Recorder events.
+ * <p>
+ * Each event type has a {@code start()} factory that returns {@code null} when no recording
+ * has the event enabled, so that instrumented code costs one check when JFR is off:
+ * <pre>{@code
+ * CacheLoadEvent event = CacheLoadEvent.start();
+ * Object value = loader.load();
+ * if (event != null) {
+ *     event.finish(cacheName, provider, key, value, true);
+ * }
+ * }</pre>
+ * Event fields are only filled, and payload sizes only estimated, for events that are
+ * actually committed, i.e. above the threshold configured in the recording settings.
+ */
+@Category({"wize4j", "Cache"})
+public abstract class CacheEvent extends Event {
+    @Label("Cache")
+    public String cacheName;
+
+    @Label("Provider")
+    public String provider;
+}
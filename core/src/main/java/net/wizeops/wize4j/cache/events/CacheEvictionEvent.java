@@ -0,0 +1,46 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Entries removed together by a provider: victims of a size-bounded write, expired entries
+ * reclaimed inline or by a cleanup sweep. The duration is the time spent removing them.
+ */
+@Name("net.wizeops.wize4j.CacheEviction")
+@Label("Cache Eviction")
+@Description("Entries evicted for capacity or removed after expiry")
+@StackTrace(false)
+public class CacheEvictionEvent extends CacheEvent {
+    public static final String SIZE = "SIZE";
+    public static final String EXPIRED = "EXPIRED";
+    public static final String EXPIRY_SWEEP = "EXPIRY_SWEEP";
+
+    @Label("Cause")
+    public String cause;
+
+    @Label("Entries")
+    public long count;
+
+    public static CacheEvictionEvent start() {
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void finish(String cacheName, String provider, String cause, long count) {
+        end();
+        if (count > 0 && shouldCommit()) {
+            this.cacheName = cacheName;
+            this.provider = provider;
+            this.cause = cause;
+            this.count = count;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
+
+/**
+ * One loader execution after a miss or for a refresh-ahead, successful or not.
+ */
+@Name("net.wizeops.wize4j.CacheLoad")
+@Label("Cache Load")
+@Description("Loader execution computing a missing or stale cache value")
+public class CacheLoadEvent extends CacheEvent {
+    @Label("Key")
+    public String key;
+
+    @Label("Successful")
+    public boolean successful;
+
+    @Label("Payload Size")
+    @Description("Estimated size of the loaded value")
+    @DataAmount
+    public long payloadSize;
+
+    public static CacheLoadEvent start() {
+        CacheLoadEvent event = new CacheLoadEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void finish(String cacheName, String provider, String key, Object value, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.cacheName = cacheName;
+            this.provider = provider;
+            this.key = key;
+            this.successful = successful;
+            this.payloadSize = CacheUtil.estimateObjectSize(value);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
+
+/**
+ * Get, put or evict through {@code CacheManager} that took longer than the threshold.
+ */
+@Name("net.wizeops.wize4j.CacheOperation")
+@Label("Cache Operation")
+@Description("Cache get, put or evict slower than the threshold")
+@Threshold("10 ms")
+public class CacheOperationEvent extends CacheEvent {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    @Description("Whether a get found a value")
+    public boolean hit;
+
+    @Label("Payload Size")
+    @Description("Estimated size of the value read or written")
+    @DataAmount
+    public long payloadSize;
+
+    public static CacheOperationEvent start() {
+        CacheOperationEvent event = new CacheOperationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void finish(String cacheName, String provider, String operation, String key, Object value) {
+        end();
+        if (shouldCommit()) {
+            this.cacheName = cacheName;
+            this.provider = provider;
+            this.operation = operation;
+            this.key = key;
+            this.hit = "GET".equals(operation) && value != null;
+            this.payloadSize = CacheUtil.estimateObjectSize(value);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.wizeops.wize4j.cache.events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
+
+/**
+ * Call of a {@code @Cacheable} or {@code @CacheableBatch} method through {@code CacheAspect},
+ * including key generation, the cache lookup and, on a miss, the method itself. For a batch,
+ * the key is the number of distinct keys looked up.
+ */
+@Name("net.wizeops.wize4j.CacheableCall")
+@Label("Cacheable Call")
+@Description("@Cacheable or @CacheableBatch method call slower than the threshold")
+@Threshold("10 ms")
+public class CacheableCallEvent extends CacheEvent {
+    @Label("Method")
+    public String method;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Loaded")
+    @Description("Whether the method ran because the value was not cached")
+    public boolean loaded;
+
+    @Label("Payload Size")
+    @Description("Estimated size of the returned value")
+    @DataAmount
+    public long payloadSize;
+
+    public static CacheableCallEvent start() {
+        CacheableCallEvent event = new CacheableCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void markLoaded() {
+        this.loaded = true;
+    }
+
+    public void finish(String cacheName, String provider, String method, String key, Object result) {
+        end();
+        if (shouldCommit()) {
+            this.cacheName = cacheName;
+            this.provider = provider;
+            this.method = method;
+            this.key = key;
+            this.payloadSize = CacheUtil.estimateObjectSize(result);
+            commit();
+        }
+    }
+}
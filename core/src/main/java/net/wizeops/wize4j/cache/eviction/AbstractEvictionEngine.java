@@ -0,0 +1,94 @@
+package net.wizeops.wize4j.cache.eviction;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+abstract class AbstractEvictionEngine implements EvictionEngine {
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long weightedSize;
+
+    @Override
+    public void recordAccess(String key) {
+        // Lossy: a read never waits on the policy lock, reordering is best effort
+        if (lock.tryLock()) {
+            try {
+                onAccess(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<String> recordWrite(String key, long weight) {
+        lock.lock();
+        try {
+            List<String> victims = onWrite(key, Math.max(weight, 0));
+            weightedSize = trackedWeight();
+            return victims;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordRemoval(String key) {
+        lock.lock();
+        try {
+            onRemoval(key);
+            weightedSize = trackedWeight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        lock.lock();
+        try {
+            return isTracked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            onClear();
+            weightedSize = trackedWeight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return trackedSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    protected abstract void onAccess(String key);
+
+    protected abstract List<String> onWrite(String key, long weight);
+
+    protected abstract void onRemoval(String key);
+
+    protected abstract void onClear();
+
+    protected abstract boolean isTracked(String key);
+
+    protected abstract int trackedSize();
+
+    protected abstract long trackedWeight();
+}
@@ -0,0 +1,49 @@
+package net.wizeops.wize4j.cache.eviction;
+
+import java.util.List;
+
+/**
+ * Tracks key recency/frequency for a bounded cache and designates victims in O(1).
+ * Implementations are thread-safe; read records may be dropped under contention.
+ * <p>
+ * The bound is a total weight: each key counts for the weight it was last written with,
+ * so writes without a weight bound the number of keys.
+ */
+public interface EvictionEngine {
+
+    void recordAccess(String key);
+
+    /**
+     * Records an insertion or an update of the key, with a weight of 1.
+     *
+     * @return keys that must be removed from the cache to stay within capacity
+     */
+    default List<String> recordWrite(String key) {
+        return recordWrite(key, 1);
+    }
+
+    /**
+     * Records an insertion or an update of the key.
+     *
+     * @return keys that must be removed from the cache to stay within capacity, possibly
+     * including {@code key} itself when it does not fit
+     */
+    List<String> recordWrite(String key, long weight);
+
+    void recordRemoval(String key);
+
+    /**
+     * Whether the key is tracked, i.e. written and neither removed nor designated as a victim
+     * since.
+     */
+    boolean contains(String key);
+
+    void clear();
+
+    int size();
+
+    /**
+     * Total weight of the tracked keys, read without locking.
+     */
+    long weightedSize();
+}
@@ -0,0 +1,72 @@
+package net.wizeops.wize4j.cache.eviction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LruEvictionEngine extends AbstractEvictionEngine {
+    // Clés dans l'ordre d'accès, avec leur poids
+    private final LinkedHashMap<String, Long> order = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maximumWeight;
+    private long totalWeight;
+
+    public LruEvictionEngine(long maximumWeight) {
+        this.maximumWeight = Math.max(maximumWeight, 1);
+    }
+
+    @Override
+    protected void onAccess(String key) {
+        order.get(key);
+    }
+
+    @Override
+    protected List<String> onWrite(String key, long weight) {
+        Long previous = order.put(key, weight);
+        totalWeight += weight - (previous != null ? previous : 0);
+        if (totalWeight <= maximumWeight) {
+            return Collections.emptyList();
+        }
+
+        List<String> victims = new ArrayList<>(1);
+        Iterator<Map.Entry<String, Long>> eldest = order.entrySet().iterator();
+        while (totalWeight > maximumWeight && eldest.hasNext()) {
+            Map.Entry<String, Long> victim = eldest.next();
+            totalWeight -= victim.getValue();
+            victims.add(victim.getKey());
+            eldest.remove();
+        }
+        return victims;
+    }
+
+    @Override
+    protected void onRemoval(String key) {
+        Long weight = order.remove(key);
+        if (weight != null) {
+            totalWeight -= weight;
+        }
+    }
+
+    @Override
+    protected void onClear() {
+        order.clear();
+        totalWeight = 0;
+    }
+
+    @Override
+    protected boolean isTracked(String key) {
+        return order.containsKey(key);
+    }
+
+    @Override
+    protected int trackedSize() {
+        return order.size();
+    }
+
+    @Override
+    protected long trackedWeight() {
+        return totalWeight;
+    }
+}
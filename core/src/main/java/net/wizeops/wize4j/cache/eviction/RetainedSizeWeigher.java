@@ -0,0 +1,23 @@
+package net.wizeops.wize4j.cache.eviction;
+
+import net.wizeops.wize4j.cache.api.Weigher;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
+
+/**
+ * Weighs an entry by the heap retained by its key and value, estimated from a bounded walk of
+ * the value's object graph, plus the fixed cost of the entry in the cache's structures.
+ */
+public final class RetainedSizeWeigher implements Weigher {
+    public static final RetainedSizeWeigher INSTANCE = new RetainedSizeWeigher();
+
+    // Nœud de la map, CacheEntry, suivi par la politique d'éviction et la roue d'expiration
+    private static final long ENTRY_OVERHEAD = 160;
+
+    private RetainedSizeWeigher() {
+    }
+
+    @Override
+    public long weigh(String key, Object value) {
+        return ENTRY_OVERHEAD + CacheUtil.estimateRetainedSize(key) + CacheUtil.estimateRetainedSize(value);
+    }
+}
@@ -0,0 +1,223 @@
+package net.wizeops.wize4j.cache.eviction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * W-TinyLFU: new keys enter a small LRU window, then must beat the main space's
+ * LRU victim on estimated frequency to be admitted into the segmented main space
+ * (probation / protected). One-hit wonders from scans are thus rejected cheaply.
+ * <p>
+ * Segment limits are weights; a heavy candidate must beat every victim it displaces.
+ */
+public class WindowTinyLfuEvictionEngine extends AbstractEvictionEngine {
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.80;
+
+    private enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    private final Map<String, Segment> segments = new HashMap<>();
+    // Files LRU en ordre d'insertion, avec le poids de chaque clé
+    private final LinkedHashMap<String, Long> window = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Long> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Long> protectedKeys = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+
+    private final long maximum;
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    public WindowTinyLfuEvictionEngine(long maximumSize) {
+        this(maximumSize, maximumSize);
+    }
+
+    /**
+     * @param maximumWeight   total weight kept
+     * @param expectedEntries number of keys the frequency sketch is sized for
+     */
+    public WindowTinyLfuEvictionEngine(long maximumWeight, long expectedEntries) {
+        this.maximum = Math.max(maximumWeight, 1);
+        this.windowMaximum = Math.max(1, (long) (maximum * WINDOW_PERCENTAGE));
+        this.mainMaximum = maximum - windowMaximum;
+        this.protectedMaximum = (long) (mainMaximum * PROTECTED_PERCENTAGE);
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    @Override
+    protected void onAccess(String key) {
+        sketch.increment(key);
+        Segment segment = segments.get(key);
+        if (segment != null) {
+            reorder(key, segment);
+        }
+    }
+
+    @Override
+    protected List<String> onWrite(String key, long weight) {
+        sketch.increment(key);
+        Segment segment = segments.get(key);
+        if (segment != null) {
+            Long previous = queue(segment).put(key, weight);
+            addWeight(segment, weight - previous);
+            reorder(key, segment);
+            return weight > previous ? evictExcess() : Collections.emptyList();
+        }
+
+        window.put(key, weight);
+        windowWeight += weight;
+        segments.put(key, Segment.WINDOW);
+        if (windowWeight <= windowMaximum) {
+            return Collections.emptyList();
+        }
+
+        List<String> victims = new ArrayList<>(1);
+        while (windowWeight > windowMaximum) {
+            Map.Entry<String, Long> candidate = pollFirst(window);
+            windowWeight -= candidate.getValue();
+            admitOrReject(candidate.getKey(), candidate.getValue(), victims);
+        }
+        return victims;
+    }
+
+    @Override
+    protected void onRemoval(String key) {
+        Segment segment = segments.remove(key);
+        if (segment != null) {
+            removeFromSegment(key, segment);
+        }
+    }
+
+    @Override
+    protected void onClear() {
+        segments.clear();
+        window.clear();
+        probation.clear();
+        protectedKeys.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+        sketch.clear();
+    }
+
+    @Override
+    protected boolean isTracked(String key) {
+        return segments.containsKey(key);
+    }
+
+    @Override
+    protected int trackedSize() {
+        return segments.size();
+    }
+
+    @Override
+    protected long trackedWeight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    private void admitOrReject(String candidate, long weight, List<String> victims) {
+        if (weight > mainMaximum) {
+            // Plus lourde que tout l'espace principal : jamais admise
+            segments.remove(candidate);
+            victims.add(candidate);
+            return;
+        }
+
+        while (probationWeight + protectedWeight + weight > mainMaximum) {
+            String victim = !probation.isEmpty() ? probation.keySet().iterator().next()
+                    : protectedKeys.keySet().iterator().next();
+            if (sketch.frequency(candidate) <= sketch.frequency(victim)) {
+                segments.remove(candidate);
+                victims.add(candidate);
+                return;
+            }
+            removeFromSegment(victim, segments.remove(victim));
+            victims.add(victim);
+        }
+        probation.put(candidate, weight);
+        probationWeight += weight;
+        segments.put(candidate, Segment.PROBATION);
+    }
+
+    /**
+     * Evicts in LRU order, probation first, after an update made an entry heavier.
+     */
+    private List<String> evictExcess() {
+        if (trackedWeight() <= maximum) {
+            return Collections.emptyList();
+        }
+        List<String> victims = new ArrayList<>(1);
+        while (trackedWeight() > maximum) {
+            LinkedHashMap<String, Long> queue = !probation.isEmpty() ? probation
+                    : !protectedKeys.isEmpty() ? protectedKeys : window;
+            String victim = queue.keySet().iterator().next();
+            removeFromSegment(victim, segments.remove(victim));
+            victims.add(victim);
+        }
+        return victims;
+    }
+
+    private void reorder(String key, Segment segment) {
+        switch (segment) {
+            case WINDOW -> moveToTail(window, key);
+            case PROTECTED -> moveToTail(protectedKeys, key);
+            case PROBATION -> {
+                long weight = probation.remove(key);
+                probationWeight -= weight;
+                protectedKeys.put(key, weight);
+                protectedWeight += weight;
+                segments.put(key, Segment.PROTECTED);
+                while (protectedWeight > protectedMaximum) {
+                    Map.Entry<String, Long> demoted = pollFirst(protectedKeys);
+                    protectedWeight -= demoted.getValue();
+                    probation.put(demoted.getKey(), demoted.getValue());
+                    probationWeight += demoted.getValue();
+                    segments.put(demoted.getKey(), Segment.PROBATION);
+                }
+            }
+        }
+    }
+
+    private void removeFromSegment(String key, Segment segment) {
+        Long weight = queue(segment).remove(key);
+        if (weight != null) {
+            addWeight(segment, -weight);
+        }
+    }
+
+    private LinkedHashMap<String, Long> queue(Segment segment) {
+        return switch (segment) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedKeys;
+        };
+    }
+
+    private void addWeight(Segment segment, long delta) {
+        switch (segment) {
+            case WINDOW -> windowWeight += delta;
+            case PROBATION -> probationWeight += delta;
+            case PROTECTED -> protectedWeight += delta;
+        }
+    }
+
+    private static void moveToTail(LinkedHashMap<String, Long> queue, String key) {
+        queue.put(key, queue.remove(key));
+    }
+
+    private static Map.Entry<String, Long> pollFirst(LinkedHashMap<String, Long> queue) {
+        Iterator<Map.Entry<String, Long>> iterator = queue.entrySet().iterator();
+        Map.Entry<String, Long> first = iterator.next();
+        iterator.remove();
+        return first;
+    }
+}
@@ -0,0 +1,11 @@
+package net.wizeops.wize4j.cache.exceptions;
+
+/**
+ * Wraps a checked exception thrown by a cache loader. Unchecked exceptions from the
+ * loader are rethrown as-is to the caller and to every waiter on the same key.
+ */
+public class CacheLoadingException extends CacheException {
+    public CacheLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
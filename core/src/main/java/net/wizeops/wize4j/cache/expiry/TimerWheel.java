@@ -0,0 +1,259 @@
+package net.wizeops.wize4j.cache.expiry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hierarchical timing wheel indexing keys by their expiration time (milliseconds).
+ * Advancing the wheel only visits the buckets whose time span has elapsed, so the
+ * cost is proportional to the number of due entries rather than to the cache size.
+ * Entries scheduled far in the future cascade down to finer wheels as time passes.
+ * <p>
+ * Writers never wait on the wheel: {@link #schedule} and {@link #deschedule} append to a
+ * lock-free buffer, replayed in order by whichever thread next acquires the wheel lock, and
+ * always before the wheel is advanced or read.
+ */
+public class TimerWheel {
+    // ~1.02s, ~1.09m, ~1.17h, ~1.55d, ~6.21d
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 10, 1L << 16, 1L << 22, 1L << 27, 1L << 29, 1L << 29
+    };
+    private static final long[] SHIFT = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<Op> pending = new ConcurrentLinkedQueue<>();
+    private final Node[][] wheel;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private long time;
+    private volatile long nextAdvanceTime;
+
+    public TimerWheel(long currentTimeMillis) {
+        this.wheel = new Node[BUCKETS.length][];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < wheel[i].length; j++) {
+                wheel[i][j] = Node.sentinel();
+            }
+        }
+        this.time = currentTimeMillis;
+        this.nextAdvanceTime = nextTick(currentTimeMillis);
+    }
+
+    public void schedule(String key, long expirationTime) {
+        pending.add(new Op(key, expirationTime, false));
+        tryDrain();
+    }
+
+    public void deschedule(String key) {
+        pending.add(new Op(key, 0, true));
+        tryDrain();
+    }
+
+    /**
+     * Advances the wheel and returns at most {@code maxExpired} keys that are due.
+     * Returns immediately when no bucket boundary was crossed or when another thread
+     * is already advancing; leftover work is picked up by the next call.
+     */
+    public List<String> advance(long currentTimeMillis, int maxExpired) {
+        if (currentTimeMillis < nextAdvanceTime || !lock.tryLock()) {
+            return Collections.emptyList();
+        }
+        try {
+            drain();
+            long previousTime = time;
+            if (currentTimeMillis <= previousTime) {
+                return Collections.emptyList();
+            }
+            time = currentTimeMillis;
+
+            List<String> expired = new ArrayList<>();
+            boolean complete = true;
+            for (int i = 0; i < SHIFT.length && complete; i++) {
+                long previousTicks = previousTime >>> SHIFT[i];
+                long currentTicks = currentTimeMillis >>> SHIFT[i];
+                long delta = currentTicks - previousTicks;
+                if (delta <= 0) {
+                    break;
+                }
+                complete = expire(i, previousTicks, delta, maxExpired, expired);
+            }
+
+            if (complete) {
+                nextAdvanceTime = nextTick(currentTimeMillis);
+            } else {
+                // Budget exhausted: replay the same range on the next call
+                time = previousTime;
+                nextAdvanceTime = 0;
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            drain();
+            nodes.clear();
+            for (Node[] buckets : wheel) {
+                for (Node sentinel : buckets) {
+                    sentinel.prev = sentinel;
+                    sentinel.next = sentinel;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            drain();
+            return nodes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void tryDrain() {
+        if (lock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private void drain() {
+        Op op;
+        while ((op = pending.poll()) != null) {
+            if (op.remove) {
+                Node node = nodes.remove(op.key);
+                if (node != null) {
+                    unlink(node);
+                }
+                continue;
+            }
+            Node node = nodes.get(op.key);
+            if (node == null) {
+                node = new Node(op.key);
+                nodes.put(op.key, node);
+            } else {
+                unlink(node);
+            }
+            node.expirationTime = op.expirationTime;
+            link(findBucket(op.expirationTime), node);
+        }
+    }
+
+    private boolean expire(int level, long previousTicks, long delta, int maxExpired, List<String> expired) {
+        Node[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + delta, buckets.length);
+        int start = (int) (previousTicks & mask);
+
+        for (int i = start; i < start + steps; i++) {
+            Node sentinel = buckets[i & mask];
+            Node last = sentinel.prev;
+            Node node = sentinel.next;
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+
+            while (node != sentinel) {
+                if (expired.size() >= maxExpired) {
+                    // Splice the unvisited remainder back into the bucket
+                    Node tail = sentinel.prev;
+                    tail.next = node;
+                    node.prev = tail;
+                    last.next = sentinel;
+                    sentinel.prev = last;
+                    return false;
+                }
+
+                Node next = node.next;
+                node.prev = null;
+                node.next = null;
+                if (node.expirationTime <= time) {
+                    nodes.remove(node.key);
+                    expired.add(node.key);
+                } else {
+                    link(findBucket(node.expirationTime), node);
+                }
+                node = next;
+            }
+        }
+        return true;
+    }
+
+    private Node findBucket(long expirationTime) {
+        long duration = Math.max(expirationTime - time, 0);
+        long ticksTime = Math.max(expirationTime, time);
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = ticksTime >>> SHIFT[i];
+                int index = (int) (ticks & (wheel[i].length - 1));
+                return wheel[i][index];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private static long nextTick(long currentTimeMillis) {
+        return ((currentTimeMillis >>> SHIFT[0]) + 1) << SHIFT[0];
+    }
+
+    private static void link(Node sentinel, Node node) {
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    private static void unlink(Node node) {
+        if (node.next != null) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    private record Op(String key, long expirationTime, boolean remove) {
+    }
+
+    private static final class Node {
+        private final String key;
+        private long expirationTime;
+        private Node prev;
+        private Node next;
+
+        private Node(String key) {
+            this.key = key;
+        }
+
+        private static Node sentinel() {
+            Node sentinel = new Node(null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+    }
+}
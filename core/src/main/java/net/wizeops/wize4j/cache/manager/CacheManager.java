@@ -1,26 +1,57 @@
 package net.wizeops.wize4j.cache.manager;
 
 import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.AsyncCacheProvider;
+import net.wizeops.wize4j.cache.api.BulkCacheLoader;
+import net.wizeops.wize4j.cache.api.CacheLoader;
 import net.wizeops.wize4j.cache.api.CacheProvider;
 import net.wizeops.wize4j.cache.config.CacheConfiguration;
 import net.wizeops.wize4j.cache.config.CacheProviderType;
 import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.core.CacheStatistics.Operation;
+import net.wizeops.wize4j.cache.core.RefreshableValue;
+import net.wizeops.wize4j.cache.events.CacheLoadEvent;
+import net.wizeops.wize4j.cache.events.CacheOperationEvent;
 import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.exceptions.CacheLoadingException;
+import net.wizeops.wize4j.cache.providers.caffeine.CaffeineCacheProvider;
 import net.wizeops.wize4j.cache.providers.memory.InMemoryCacheProvider;
+import net.wizeops.wize4j.cache.providers.offheap.OffHeapCacheProvider;
+import net.wizeops.wize4j.cache.providers.tiered.TieredCacheProvider;
+import net.wizeops.wize4j.cache.serialization.Serializer;
 
 import java.lang.reflect.Constructor;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Slf4j
 public class CacheManager implements AutoCloseable {
     private final Map<String, CacheProvider> cacheProviders;
     private final CacheConfiguration config;
     private final ScheduledExecutorService cleanupExecutor;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<LoadKey, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Set<LoadKey> inFlightRefreshes = ConcurrentHashMap.newKeySet();
+    // Clés dont le thread courant exécute le loader, pour reconnaître un loader réentrant
+    private final ThreadLocal<Set<LoadKey>> loadingKeys = ThreadLocal.withInitial(HashSet::new);
+    private final boolean timeOperations;
 
     // Constantes pour les noms de classes des providers externes
     private static final String REDIS_PROVIDER_CLASS = "net.wizeops.wize4j.cache.providers.redis.RedisCacheProvider";
@@ -31,6 +62,8 @@ public class CacheManager implements AutoCloseable {
         this.config = config;
         this.cacheProviders = new ConcurrentHashMap<>();
         this.cleanupExecutor = createAndStartCleanupExecutor();
+        this.refreshExecutor = createRefreshExecutor();
+        this.timeOperations = config.isEnableStatistics() && config.isEnableLatencyHistograms();
     }
 
     public void put(String cacheName, String key, Object value, Duration ttl) {
@@ -38,7 +71,7 @@ public class CacheManager implements AutoCloseable {
         Duration effectiveTtl = ttl != null ? ttl : Duration.ofSeconds(config.getDefaultTtlSeconds());
 
         try {
-            getCacheProvider(cacheName).put(key, value, effectiveTtl);
+            timedPut(getCacheProvider(cacheName), cacheName, key, value, effectiveTtl);
             log.debug("Put value in cache '{}' with key: {}", cacheName, key);
         } catch (Exception e) {
             log.error("Error putting value in cache '{}' with key: {}", cacheName, key, e);
@@ -50,27 +83,113 @@ public class CacheManager implements AutoCloseable {
         validateInputs(cacheName, key);
 
         try {
-            if (!cacheProviders.containsKey(cacheName)) {
+            // Un cache distant ou restauré depuis un instantané n'est pas vide à sa création
+            if (!cacheProviders.containsKey(cacheName) && startsEmpty(config)) {
                 log.debug("Cache not found: {}", cacheName);
                 return null;
             }
 
-            Object value = getCacheProvider(cacheName).get(key);
+            Object value = timedGet(getCacheProvider(cacheName), cacheName, key);
             log.debug("Get value from cache '{}' with key: {} - {}",
                     cacheName, key, value != null ? "HIT" : "MISS");
-            return value;
+            return RefreshableValue.unwrap(value);
         } catch (Exception e) {
             log.error("Error getting value from cache '{}' with key: {}", cacheName, key, e);
             throw new CacheException("Failed to get value from cache", e);
         }
     }
 
+    /**
+     * Returns the cached value or computes it with the loader. Concurrent callers that
+     * miss on the same key share a single loader execution and receive its result or
+     * its exception. Null results are returned but not cached.
+     */
+    public <T> T get(String cacheName, String key, CacheLoader<? extends T> loader, Duration ttl) {
+        return get(cacheName, key, loader, ttl, null);
+    }
+
+    /**
+     * Same as {@link #get(String, String, CacheLoader, Duration)} with refresh-ahead: once
+     * an entry is older than {@code refreshAfter}, hits keep returning it while a single
+     * background task reloads it. A failed refresh leaves the current value in place
+     * until its TTL expires.
+     */
+    public <T> T get(String cacheName, String key, CacheLoader<? extends T> loader,
+                     Duration ttl, Duration refreshAfter) {
+        return get(cacheName, key, loader, loader, ttl, refreshAfter);
+    }
+
+    /**
+     * Same as {@link #get(String, String, CacheLoader, Duration, Duration)}, except that the
+     * background refresh runs {@code refreshLoader} instead of {@code loader}. Meant for
+     * loaders that can only run on the calling thread, such as proceeding the join point of
+     * an advised method.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key, CacheLoader<? extends T> loader,
+                     CacheLoader<? extends T> refreshLoader, Duration ttl, Duration refreshAfter) {
+        validateInputs(cacheName, key);
+        if (loader == null) {
+            throw new CacheException("Loader cannot be null");
+        }
+
+        Object cached = getOrCreate(cacheName, key);
+        if (cached != null) {
+            if (cached instanceof RefreshableValue refreshable
+                    && refreshable.isRefreshDue(config.getTicker().currentTimeMillis())) {
+                scheduleRefresh(cacheName, key, refreshLoader, ttl, refreshAfter);
+            }
+            return (T) RefreshableValue.unwrap(cached);
+        }
+
+        LoadKey loadKey = new LoadKey(cacheName, key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(loadKey, future);
+        Set<LoadKey> loading = loadingKeys.get();
+        if (inFlight != null) {
+            if (loading.contains(loadKey)) {
+                // Le loader redemande sa propre clé : attendre sa future bloquerait ce thread pour toujours
+                log.debug("Re-entrant load of key: {} in cache: {}, loading without coalescing", key, cacheName);
+                try {
+                    return (T) load(cacheName, key, loader);
+                } catch (Throwable e) {
+                    throw propagateLoadFailure(e);
+                }
+            }
+            log.debug("Waiting for in-flight load of key: {} in cache: {}", key, cacheName);
+            return (T) awaitLoad(inFlight);
+        }
+
+        loading.add(loadKey);
+        try {
+            // A load may have completed between the miss and the registration
+            Object value = RefreshableValue.unwrap(getOrCreate(cacheName, key));
+            if (value == null) {
+                value = load(cacheName, key, loader);
+                if (value != null) {
+                    putLoaded(cacheName, key, value, ttl, refreshAfter);
+                }
+            }
+            future.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw propagateLoadFailure(e);
+        } finally {
+            inFlightLoads.remove(loadKey, future);
+            loading.remove(loadKey);
+            if (loading.isEmpty()) {
+                loadingKeys.remove();
+            }
+        }
+    }
+
     public void evict(String cacheName, String key) {
         validateInputs(cacheName, key);
 
         try {
             if (cacheProviders.containsKey(cacheName)) {
-                getCacheProvider(cacheName).evict(key);
+                timedEvict(getCacheProvider(cacheName), cacheName, key);
                 log.debug("Evicted key: {} from cache: {}", key, cacheName);
             }
         } catch (Exception e) {
@@ -85,9 +204,11 @@ public class CacheManager implements AutoCloseable {
         }
 
         try {
-            if (cacheProviders.containsKey(cacheName)) {
-                getCacheProvider(cacheName).clear();
-                cacheProviders.remove(cacheName);
+            // Le provider reste enregistré : il tient des références sur des pools partagés,
+            // et le provider CUSTOM est une seule instance commune à tous les caches
+            CacheProvider provider = cacheProviders.get(cacheName);
+            if (provider != null) {
+                provider.clear();
                 log.debug("Evicted all entries from cache: {}", cacheName);
             }
         } catch (Exception e) {
@@ -96,6 +217,207 @@ public class CacheManager implements AutoCloseable {
         }
     }
 
+    /**
+     * Looks up all keys in one bulk call: remote providers need a few round trips for the whole
+     * collection instead of one per key.
+     *
+     * @return the entries found; missing keys are absent from the map
+     */
+    public Map<String, Object> getAll(String cacheName, Collection<String> keys) {
+        validateKeys(cacheName, keys);
+        if (keys.isEmpty() || (!cacheProviders.containsKey(cacheName) && startsEmpty(config))) {
+            return new HashMap<>();
+        }
+
+        try {
+            Map<String, Object> values = unwrapAll(getCacheProvider(cacheName).getBulk(keys));
+            log.debug("Bulk get from cache '{}': {} keys, {} hits", cacheName, keys.size(), values.size());
+            return values;
+        } catch (Exception e) {
+            log.error("Error getting bulk values from cache '{}'", cacheName, e);
+            throw new CacheException("Failed to get values from cache", e);
+        }
+    }
+
+    /**
+     * Bulk counterpart of {@link #get(String, String, CacheLoader, Duration)}: one bulk lookup,
+     * then a single loader call with the missing keys only, whose values are stored with one
+     * bulk put and returned along with the hits. Unlike the single-key variant, concurrent
+     * calls missing the same keys each load them.
+     *
+     * @return the cached and loaded entries; keys the loader left out are absent
+     */
+    public Map<String, Object> getAll(String cacheName, Collection<String> keys, BulkCacheLoader loader,
+                                      Duration ttl) {
+        validateKeys(cacheName, keys);
+        if (loader == null) {
+            throw new CacheException("Loader cannot be null");
+        }
+
+        Map<String, Object> result = getAll(cacheName, keys);
+        Set<String> missing = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key != null && !result.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, ?> loaded;
+        try {
+            loaded = load(cacheName, missing.size() + " keys", () -> loader.loadAll(missing));
+        } catch (Exception e) {
+            throw propagateLoadFailure(e);
+        }
+        if (loaded == null) {
+            return result;
+        }
+
+        Map<String, Object> toStore = new HashMap<>();
+        for (String key : missing) {
+            Object value = loaded.get(key);
+            if (value != null) {
+                toStore.put(key, value);
+            }
+        }
+        putAll(cacheName, toStore, ttl);
+        result.putAll(toStore);
+        return result;
+    }
+
+    /**
+     * Stores all entries with the same TTL, the default TTL when {@code ttl} is null. Null
+     * values are skipped.
+     */
+    public void putAll(String cacheName, Map<String, ?> entries, Duration ttl) {
+        Duration effectiveTtl = ttl != null ? ttl : Duration.ofSeconds(config.getDefaultTtlSeconds());
+        storeAll(cacheName, entries, (provider, values) -> provider.putBulk(values, effectiveTtl));
+    }
+
+    /**
+     * Stores all entries, each with the TTL returned by {@code ttlForKey}, the default TTL when
+     * it returns null. Null values are skipped.
+     */
+    public void putAll(String cacheName, Map<String, ?> entries, Function<? super String, Duration> ttlForKey) {
+        if (ttlForKey == null) {
+            throw new CacheException("TTL function cannot be null");
+        }
+        Duration defaultTtl = Duration.ofSeconds(config.getDefaultTtlSeconds());
+        storeAll(cacheName, entries, (provider, values) -> provider.putBulk(values, key -> {
+            Duration ttl = ttlForKey.apply(key);
+            return ttl != null ? ttl : defaultTtl;
+        }));
+    }
+
+    /**
+     * Removes the given keys in one bulk call, unlike {@link #evictAll(String)} which drops the
+     * whole cache.
+     *
+     * @return the number of entries removed, or of keys for providers that cannot tell
+     */
+    public long evictAll(String cacheName, Collection<String> keys) {
+        validateKeys(cacheName, keys);
+        if (keys.isEmpty() || !cacheProviders.containsKey(cacheName)) {
+            return 0;
+        }
+
+        try {
+            long removed = getCacheProvider(cacheName).evictBulk(keys);
+            log.debug("Bulk evicted {} of {} keys from cache: {}", removed, keys.size(), cacheName);
+            return removed;
+        } catch (Exception e) {
+            log.error("Error evicting bulk keys from cache '{}'", cacheName, e);
+            throw new CacheException("Failed to evict keys from cache", e);
+        }
+    }
+
+    /**
+     * Asynchronous lookup: remote providers implementing {@link AsyncCacheProvider} do
+     * not block the caller; local providers complete the future immediately.
+     */
+    public CompletableFuture<Object> getAsync(String cacheName, String key) {
+        validateInputs(cacheName, key);
+        if (!cacheProviders.containsKey(cacheName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            CacheProvider provider = getCacheProvider(cacheName);
+            if (provider instanceof AsyncCacheProvider asyncProvider) {
+                long start = startTimer();
+                return timed(asyncProvider.getAsync(key), provider, Operation.GET, start)
+                        .thenApply(RefreshableValue::unwrap);
+            }
+            return CompletableFuture.completedFuture(RefreshableValue.unwrap(timedGet(provider, cacheName, key)));
+        } catch (Exception e) {
+            log.error("Error getting value from cache '{}' with key: {}", cacheName, key, e);
+            return CompletableFuture.failedFuture(new CacheException("Failed to get value from cache", e));
+        }
+    }
+
+    public CompletableFuture<Void> putAsync(String cacheName, String key, Object value, Duration ttl) {
+        validateInputs(cacheName, key, value);
+        Duration effectiveTtl = ttl != null ? ttl : Duration.ofSeconds(config.getDefaultTtlSeconds());
+
+        try {
+            CacheProvider provider = getCacheProvider(cacheName);
+            if (provider instanceof AsyncCacheProvider asyncProvider) {
+                long start = startTimer();
+                return timed(asyncProvider.putAsync(key, value, effectiveTtl), provider, Operation.PUT, start);
+            }
+            timedPut(provider, cacheName, key, value, effectiveTtl);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Error putting value in cache '{}' with key: {}", cacheName, key, e);
+            return CompletableFuture.failedFuture(new CacheException("Failed to put value in cache", e));
+        }
+    }
+
+    public CompletableFuture<Void> evictAsync(String cacheName, String key) {
+        validateInputs(cacheName, key);
+        if (!cacheProviders.containsKey(cacheName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            CacheProvider provider = getCacheProvider(cacheName);
+            if (provider instanceof AsyncCacheProvider asyncProvider) {
+                long start = startTimer();
+                return timed(asyncProvider.evictAsync(key), provider, Operation.EVICT, start);
+            }
+            timedEvict(provider, cacheName, key);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Error evicting key from cache '{}': {}", cacheName, key, e);
+            return CompletableFuture.failedFuture(new CacheException("Failed to evict key from cache", e));
+        }
+    }
+
+    public CompletableFuture<Map<String, Object>> getBulkAsync(String cacheName, Collection<String> keys) {
+        if (cacheName == null) {
+            throw new CacheException("Cache name cannot be null");
+        }
+        if (keys == null) {
+            throw new CacheException("Keys cannot be null");
+        }
+        if (keys.isEmpty() || !cacheProviders.containsKey(cacheName)) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        try {
+            CacheProvider provider = getCacheProvider(cacheName);
+            CompletableFuture<Map<String, Object>> result = provider instanceof AsyncCacheProvider asyncProvider
+                    ? asyncProvider.getBulkAsync(keys)
+                    : CompletableFuture.completedFuture(provider.getBulk(keys));
+            return result.thenApply(CacheManager::unwrapAll);
+        } catch (Exception e) {
+            log.error("Error getting bulk values from cache '{}'", cacheName, e);
+            return CompletableFuture.failedFuture(new CacheException("Failed to get values from cache", e));
+        }
+    }
+
     public CacheStatistics getStatistics(String cacheName) {
         if (!config.isEnableStatistics()) {
             throw new CacheException("Statistics are not enabled");
@@ -108,6 +430,15 @@ public class CacheManager implements AutoCloseable {
         return getCacheProvider(cacheName).getStatistics();
     }
 
+    /**
+     * Name of the provider of {@code cacheName}, or of the configured provider type when the
+     * cache has not been created yet.
+     */
+    public String getProviderName(String cacheName) {
+        CacheProvider provider = cacheProviders.get(cacheName);
+        return provider != null ? provider.getProviderName() : config.getProviderType().name();
+    }
+
     /**
      * Accès typé aux providers pour les fonctionnalités spécifiques
      */
@@ -125,9 +456,13 @@ public class CacheManager implements AutoCloseable {
         try {
             log.info("Shutting down cache manager");
             cleanupExecutor.shutdown();
+            refreshExecutor.shutdown();
             if (!cleanupExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
                 cleanupExecutor.shutdownNow();
             }
+            if (!refreshExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                refreshExecutor.shutdownNow();
+            }
 
             // Fermer tous les providers
             for (Map.Entry<String, CacheProvider> entry : cacheProviders.entrySet()) {
@@ -142,9 +477,26 @@ public class CacheManager implements AutoCloseable {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             cleanupExecutor.shutdownNow();
+            refreshExecutor.shutdownNow();
         }
     }
 
+    private ThreadPoolExecutor createRefreshExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                config.getRefreshPoolSize(),
+                config.getRefreshPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getRefreshQueueCapacity()),
+                r -> {
+                    Thread thread = new Thread(r, "cache-refresh-thread-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private ScheduledExecutorService createAndStartCleanupExecutor() {
         ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread thread = new Thread(r, "cache-cleanup-thread");
@@ -178,24 +530,199 @@ public class CacheManager implements AutoCloseable {
         }
     }
 
-    private CacheProvider getCacheProvider(String cacheName) {
-        return cacheProviders.computeIfAbsent(cacheName, name -> createCacheProvider());
+    private Object getOrCreate(String cacheName, String key) {
+        try {
+            Object value = timedGet(getCacheProvider(cacheName), cacheName, key);
+            log.debug("Get value from cache '{}' with key: {} - {}",
+                    cacheName, key, value != null ? "HIT" : "MISS");
+            return value;
+        } catch (Exception e) {
+            log.error("Error getting value from cache '{}' with key: {}", cacheName, key, e);
+            throw new CacheException("Failed to get value from cache", e);
+        }
+    }
+
+    // Latence dans les statistiques, et événement JFR si l'opération dépasse le seuil
+    private Object timedGet(CacheProvider provider, String cacheName, String key) {
+        CacheOperationEvent event = CacheOperationEvent.start();
+        long start = startTimer();
+        Object value = provider.get(key);
+        recordLatency(provider, Operation.GET, start);
+        if (event != null) {
+            event.finish(cacheName, provider.getProviderName(), Operation.GET.name(), key, value);
+        }
+        return value;
+    }
+
+    private void timedPut(CacheProvider provider, String cacheName, String key, Object value, Duration ttl) {
+        CacheOperationEvent event = CacheOperationEvent.start();
+        long start = startTimer();
+        provider.put(key, value, ttl);
+        recordLatency(provider, Operation.PUT, start);
+        if (event != null) {
+            event.finish(cacheName, provider.getProviderName(), Operation.PUT.name(), key, value);
+        }
+    }
+
+    private void timedEvict(CacheProvider provider, String cacheName, String key) {
+        CacheOperationEvent event = CacheOperationEvent.start();
+        long start = startTimer();
+        provider.evict(key);
+        recordLatency(provider, Operation.EVICT, start);
+        if (event != null) {
+            event.finish(cacheName, provider.getProviderName(), Operation.EVICT.name(), key, null);
+        }
     }
 
-    private CacheProvider createCacheProvider() {
+    private long startTimer() {
+        return timeOperations ? System.nanoTime() : 0;
+    }
+
+    private void recordLatency(CacheProvider provider, Operation operation, long start) {
+        if (timeOperations) {
+            CacheStatistics statistics = provider.getStatistics();
+            if (statistics != null) {
+                statistics.recordLatency(operation, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> timed(CompletableFuture<T> future, CacheProvider provider,
+                                           Operation operation, long start) {
+        if (!timeOperations) {
+            return future;
+        }
+        return future.whenComplete((result, error) -> recordLatency(provider, operation, start));
+    }
+
+    /**
+     * Runs the loader and records its duration, whether it succeeds or fails.
+     */
+    private <T> T load(String cacheName, String key, CacheLoader<T> loader) throws Exception {
+        CacheLoadEvent event = CacheLoadEvent.start();
+        if (!config.isEnableStatistics() && event == null) {
+            return loader.load();
+        }
+        long start = System.nanoTime();
+        T value = null;
+        boolean successful = false;
         try {
-            return switch (config.getProviderType()) {
-                case IN_MEMORY -> new InMemoryCacheProvider(config);
-                case REDIS -> createProviderByReflection(REDIS_PROVIDER_CLASS);
-                case HAZELCAST -> createProviderByReflection(HAZELCAST_PROVIDER_CLASS);
-                case EHCACHE -> createProviderByReflection(EHCACHE_PROVIDER_CLASS);
-                case CUSTOM -> {
-                    if (config.getCustomProvider() == null) {
-                        throw new CacheException("Custom provider is null");
+            value = loader.load();
+            successful = true;
+            return value;
+        } finally {
+            CacheProvider provider = getCacheProvider(cacheName);
+            CacheStatistics statistics = config.isEnableStatistics() ? provider.getStatistics() : null;
+            if (statistics != null) {
+                statistics.recordLoad(System.nanoTime() - start);
+            }
+            if (event != null) {
+                event.finish(cacheName, provider.getProviderName(), key, value, successful);
+            }
+        }
+    }
+
+    private void putLoaded(String cacheName, String key, Object value, Duration ttl, Duration refreshAfter) {
+        Object toStore = value;
+        if (refreshAfter != null && !refreshAfter.isNegative() && !refreshAfter.isZero()) {
+            toStore = new RefreshableValue(value, config.getTicker().currentTimeMillis() + refreshAfter.toMillis());
+        }
+        put(cacheName, key, toStore, ttl);
+    }
+
+    private void scheduleRefresh(String cacheName, String key, CacheLoader<?> loader,
+                                 Duration ttl, Duration refreshAfter) {
+        LoadKey loadKey = new LoadKey(cacheName, key);
+        if (refreshAfter == null || loader == null || !inFlightRefreshes.add(loadKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = load(cacheName, key, loader);
+                    if (value != null) {
+                        putLoaded(cacheName, key, value, ttl, refreshAfter);
+                        log.debug("Refreshed key: {} in cache: {}", key, cacheName);
                     }
-                    yield config.getCustomProvider();
+                } catch (Exception e) {
+                    log.warn("Background refresh failed for key: {} in cache: {}, keeping current value",
+                            key, cacheName, e);
+                } finally {
+                    inFlightRefreshes.remove(loadKey);
                 }
-            };
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightRefreshes.remove(loadKey);
+            log.debug("Refresh queue full, skipping refresh of key: {} in cache: {}", key, cacheName);
+        }
+    }
+
+    private void storeAll(String cacheName, Map<String, ?> entries,
+                          BiConsumer<CacheProvider, Map<String, Object>> write) {
+        if (cacheName == null) {
+            throw new CacheException("Cache name cannot be null");
+        }
+        if (entries == null) {
+            throw new CacheException("Entries cannot be null");
+        }
+
+        Map<String, Object> values = new HashMap<>(entries.size() * 4 / 3 + 1);
+        entries.forEach((key, value) -> {
+            if (key == null) {
+                throw new CacheException("Key cannot be null");
+            }
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        if (values.isEmpty()) {
+            return;
+        }
+
+        try {
+            write.accept(getCacheProvider(cacheName), values);
+            log.debug("Bulk put of {} values in cache '{}'", values.size(), cacheName);
+        } catch (Exception e) {
+            log.error("Error putting bulk values in cache '{}'", cacheName, e);
+            throw new CacheException("Failed to put values in cache", e);
+        }
+    }
+
+    private static Map<String, Object> unwrapAll(Map<String, Object> values) {
+        Map<String, Object> unwrapped = new HashMap<>(values.size());
+        values.forEach((key, value) -> unwrapped.put(key, RefreshableValue.unwrap(value)));
+        return unwrapped;
+    }
+
+    private Object awaitLoad(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheException("Interrupted while waiting for cache load", e);
+        } catch (ExecutionException e) {
+            throw propagateLoadFailure(e.getCause());
+        }
+    }
+
+    private static RuntimeException propagateLoadFailure(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CacheLoadingException("Failed to load value", cause);
+    }
+
+    private CacheProvider getCacheProvider(String cacheName) {
+        return cacheProviders.computeIfAbsent(cacheName, this::createCacheProvider);
+    }
+
+    private CacheProvider createCacheProvider(String cacheName) {
+        try {
+            return createProvider(config.getProviderType(), configFor(cacheName), cacheName);
         } catch (ClassNotFoundException e) {
             throw new CacheException("Cache provider implementation not found: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -203,11 +730,71 @@ public class CacheManager implements AutoCloseable {
         }
     }
 
-    private CacheProvider createProviderByReflection(String className) throws Exception {
+    private CacheProvider createProvider(CacheProviderType type, CacheConfiguration cacheConfig,
+                                         String cacheName) throws Exception {
+        return switch (type) {
+            case IN_MEMORY -> new InMemoryCacheProvider(cacheConfig, cacheName);
+            case CAFFEINE -> new CaffeineCacheProvider(cacheConfig, cacheName);
+            case OFF_HEAP -> new OffHeapCacheProvider(cacheConfig, cacheName);
+            case REDIS -> createProviderByReflection(REDIS_PROVIDER_CLASS, cacheConfig, cacheName);
+            case HAZELCAST -> createProviderByReflection(HAZELCAST_PROVIDER_CLASS, cacheConfig, cacheName);
+            case EHCACHE -> createProviderByReflection(EHCACHE_PROVIDER_CLASS, cacheConfig, cacheName);
+            case TIERED -> createTieredProvider(cacheConfig, cacheName);
+            case CUSTOM -> {
+                if (config.getCustomProvider() == null) {
+                    throw new CacheException("Custom provider is null");
+                }
+                yield config.getCustomProvider();
+            }
+        };
+    }
+
+    private CacheProvider createTieredProvider(CacheConfiguration cacheConfig, String cacheName) throws Exception {
+        CacheProviderType remoteType = cacheConfig.getTieredRemoteType();
+        if (remoteType == null || remoteType == CacheProviderType.TIERED) {
+            throw new CacheException("Invalid L2 provider type for tiered cache: " + remoteType);
+        }
+
+        CacheConfiguration localConfig = cacheConfig.toBuilder()
+                .maxSize(cacheConfig.getTieredLocalMaxSize())
+                .maxWeightBytes(0)
+                .defaultTtlSeconds(cacheConfig.getTieredLocalTtlSeconds())
+                .snapshotPath(null)
+                .build();
+        CacheProvider remote = createProvider(remoteType, cacheConfig, cacheName);
+        return new TieredCacheProvider(cacheConfig, new InMemoryCacheProvider(localConfig), remote);
+    }
+
+    /**
+     * Configuration seen by the provider of one cache, with the per-cache overrides applied.
+     */
+    private CacheConfiguration configFor(String cacheName) {
+        Serializer serializer = config.serializerFor(cacheName);
+        String compressionCodec = config.compressionCodecFor(cacheName);
+        if (serializer == config.getSerializer() && compressionCodec.equals(config.getCompressionCodec())) {
+            return config;
+        }
+        return config.toBuilder()
+                .serializer(serializer)
+                .compressionCodec(compressionCodec)
+                .build();
+    }
+
+    /**
+     * Remote providers take the cache name when they support it, so that each cache gets its
+     * own namespace on a connection shared with the other caches.
+     */
+    private CacheProvider createProviderByReflection(String className, CacheConfiguration cacheConfig,
+                                                     String cacheName) throws Exception {
         try {
             Class<?> providerClass = Class.forName(className);
-            Constructor<?> constructor = providerClass.getConstructor(CacheConfiguration.class);
-            return (CacheProvider) constructor.newInstance(config);
+            try {
+                Constructor<?> constructor = providerClass.getConstructor(CacheConfiguration.class, String.class);
+                return (CacheProvider) constructor.newInstance(cacheConfig, cacheName);
+            } catch (NoSuchMethodException e) {
+                Constructor<?> constructor = providerClass.getConstructor(CacheConfiguration.class);
+                return (CacheProvider) constructor.newInstance(cacheConfig);
+            }
         } catch (ClassNotFoundException e) {
             log.error("Provider class not found: {}. Make sure the corresponding module is added as a dependency.", className);
             throw new ClassNotFoundException("Provider not available: " + className.substring(className.lastIndexOf('.') + 1));
@@ -217,6 +804,26 @@ public class CacheManager implements AutoCloseable {
         }
     }
 
+    private static boolean startsEmpty(CacheConfiguration config) {
+        return switch (config.getProviderType()) {
+            case IN_MEMORY -> config.getSnapshotPath() == null;
+            case CAFFEINE, OFF_HEAP -> true;
+            default -> false;
+        };
+    }
+
+    private record LoadKey(String cacheName, String key) {
+    }
+
+    private void validateKeys(String cacheName, Collection<String> keys) {
+        if (cacheName == null) {
+            throw new CacheException("Cache name cannot be null");
+        }
+        if (keys == null) {
+            throw new CacheException("Keys cannot be null");
+        }
+    }
+
     private void validateInputs(String cacheName, String key) {
         validateInputs(cacheName, key, null);
     }
@@ -0,0 +1,195 @@
+package net.wizeops.wize4j.cache.providers.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.CacheProvider;
+import net.wizeops.wize4j.cache.api.Weigher;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.events.CacheEvictionEvent;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+public class CaffeineCacheProvider implements CacheProvider {
+    private final String cacheName;
+    private final Cache<String, Object> cache;
+    private final Policy.VarExpiration<String, Object> varExpiration;
+    @Getter
+    private final CacheStatistics statistics;
+
+    public CaffeineCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    public CaffeineCacheProvider(CacheConfiguration config, String cacheName) {
+        this.cacheName = cacheName;
+        this.statistics = config.isEnableStatistics() ? new CacheStatistics() : null;
+
+        Caffeine<String, Object> builder = Caffeine.newBuilder()
+                .expireAfter(new PerEntryExpiry(Duration.ofSeconds(config.getDefaultTtlSeconds())));
+        if (config.getMaxWeightBytes() > 0) {
+            Weigher weigher = config.getWeigher();
+            builder.maximumWeight(config.getMaxWeightBytes())
+                    .weigher((String key, Object value) -> (int) Math.min(weigher.weigh(key, value), Integer.MAX_VALUE));
+        } else {
+            builder.maximumSize(config.getMaxSize());
+        }
+        if (statistics != null) {
+            builder.recordStats(() -> new StatisticsCounter(statistics));
+        }
+
+        this.cache = builder.build();
+        if (statistics != null) {
+            Policy.Eviction<String, Object> eviction = cache.policy().eviction().orElseThrow();
+            statistics.bindSize(() -> eviction.weightedSize().orElse(cache.estimatedSize()));
+        }
+        this.varExpiration = cache.policy().expireVariably()
+                .orElseThrow(() -> new CacheException("Caffeine cache does not support variable expiration"));
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        validateInputs(key, value, ttl);
+
+        varExpiration.put(key, value, ttl);
+        if (statistics != null) {
+            statistics.recordPut();
+        }
+    }
+
+    @Override
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void evict(String key) {
+        if (key == null) {
+            return;
+        }
+        if (cache.asMap().remove(key) != null && statistics != null) {
+            statistics.recordEviction();
+        }
+    }
+
+    @Override
+    public void clear() {
+        long size = cache.estimatedSize();
+        cache.invalidateAll();
+        if (statistics != null && size > 0) {
+            statistics.recordClear((int) size);
+        }
+    }
+
+    @Override
+    public void removeExpired() {
+        CacheEvictionEvent event = CacheEvictionEvent.start();
+        long sizeBefore = event != null ? cache.estimatedSize() : 0;
+        cache.cleanUp();
+        if (event != null) {
+            // Approximatif : les écritures concurrentes faussent la différence de taille
+            event.finish(cacheName, getProviderName(), CacheEvictionEvent.EXPIRY_SWEEP,
+                    Math.max(0, sizeBefore - cache.estimatedSize()));
+        }
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return key != null && cache.asMap().containsKey(key);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Object value, Duration ttl) {
+        validateInputs(key, value, ttl);
+
+        boolean inserted = varExpiration.putIfAbsent(key, value, ttl) == null;
+        if (inserted && statistics != null) {
+            statistics.recordPut();
+        }
+        return inserted;
+    }
+
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        Set<String> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.remove(null);
+        return cache.getAllPresent(distinctKeys);
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        int removed = 0;
+        for (String key : keys) {
+            if (key != null && cache.asMap().remove(key) != null) {
+                removed++;
+            }
+        }
+        if (statistics != null && removed > 0) {
+            statistics.recordBulkEviction(removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    @Override
+    public String getProviderName() {
+        return "Caffeine";
+    }
+
+    private void validateInputs(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Cache key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Cache value cannot be null");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new CacheException("TTL must be positive");
+        }
+    }
+
+    /**
+     * TTLs are set explicitly through {@link Policy.VarExpiration}; this only covers
+     * entries created without one and keeps the remaining duration on reads.
+     */
+    private static final class PerEntryExpiry implements Expiry<String, Object> {
+        private final long defaultTtlNanos;
+
+        private PerEntryExpiry(Duration defaultTtl) {
+            this.defaultTtlNanos = defaultTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Object value, long currentTime) {
+            return defaultTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
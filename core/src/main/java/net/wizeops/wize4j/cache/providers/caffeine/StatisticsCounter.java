@@ -0,0 +1,52 @@
+package net.wizeops.wize4j.cache.providers.caffeine;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+
+/**
+ * Forwards Caffeine's stats recording to the wize4j {@link CacheStatistics}.
+ */
+class StatisticsCounter implements StatsCounter {
+    private final CacheStatistics statistics;
+
+    StatisticsCounter(CacheStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void recordHits(int count) {
+        statistics.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        statistics.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        // Pas de chargement via Caffeine, les loaders passent par CacheManager
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        // Idem
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        statistics.recordEviction();
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return CacheStats.of(
+                statistics.getHits(),
+                statistics.getMisses(),
+                0, 0, 0,
+                statistics.getEvictions(),
+                0);
+    }
+}
@@ -0,0 +1,328 @@
+package net.wizeops.wize4j.cache.providers.memory;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.core.CacheEntry;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.serialization.Serializer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk image of an {@link InMemoryCacheProvider}, used to restart with a warm cache.
+ * <p>
+ * The file is a header followed by independent blocks of about {@value #BLOCK_SIZE} bytes,
+ * each holding whole records: key, absolute expiry (epoch millis), flags and the value as
+ * serialized by the cache's {@link Serializer}. Compressed entries are written as is. A
+ * snapshot is written to a temporary file and atomically renamed, so readers never see a
+ * partial file.
+ * <p>
+ * Loading locates the blocks from their headers and decodes them in parallel, each worker
+ * memory-mapping its own block, so the file is never read into the heap as a whole.
+ */
+@Slf4j
+final class CacheSnapshot {
+    private static final int MAGIC = 0x57344A53; // "W4JS"
+    private static final short VERSION = 1;
+    private static final int BLOCK_SIZE = 1 << 20;
+    private static final int BLOCK_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private final Path file;
+    private final Serializer serializer;
+
+    CacheSnapshot(Path file, Serializer serializer) {
+        this.file = file;
+        this.serializer = serializer;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Receives each live record while loading; called concurrently from the loader threads.
+     */
+    @FunctionalInterface
+    interface RecordSink {
+        void accept(String key, byte[] value, boolean compressed, long expiresAtEpochMillis);
+    }
+
+    record LoadResult(long restored, long expired, long failed) {
+    }
+
+    /**
+     * Writes every entry that is still live at {@code now} (ticker time) and returns how many
+     * were written. Entries whose value cannot be serialized are skipped.
+     */
+    synchronized long write(Iterable<Map.Entry<String, CacheEntry>> entries, long now, String codecName) {
+        // Expirations are stored in wall-clock time, the ticker may use another origin
+        long toEpoch = System.currentTimeMillis() - now;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        long written = 0;
+        long skipped = 0;
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeUTF(codecName != null ? codecName : "");
+
+                ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE + (BLOCK_SIZE >> 2));
+                DataOutputStream blockOut = new DataOutputStream(block);
+                int blockRecords = 0;
+
+                for (Map.Entry<String, CacheEntry> entry : entries) {
+                    CacheEntry cacheEntry = entry.getValue();
+                    if (cacheEntry.isExpired(now)) {
+                        continue;
+                    }
+                    byte[] value;
+                    try {
+                        value = cacheEntry.isCompressed() ? (byte[]) cacheEntry.getValue()
+                                : serializer.serialize(cacheEntry.getValue());
+                    } catch (RuntimeException e) {
+                        skipped++;
+                        continue;
+                    }
+                    byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    blockOut.writeInt(key.length);
+                    blockOut.write(key);
+                    blockOut.writeLong(cacheEntry.getExpirationTime() + toEpoch);
+                    blockOut.writeByte(cacheEntry.isCompressed() ? FLAG_COMPRESSED : 0);
+                    blockOut.writeInt(value.length);
+                    blockOut.write(value);
+                    blockRecords++;
+                    written++;
+
+                    if (block.size() >= BLOCK_SIZE) {
+                        writeBlock(out, block, blockRecords);
+                        blockRecords = 0;
+                    }
+                }
+                if (blockRecords > 0) {
+                    writeBlock(out, block, blockRecords);
+                }
+                // Bloc vide final : un fichier sans ce marqueur est incomplet
+                out.writeInt(0);
+                out.writeInt(0);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // le fichier temporaire sera écrasé par le prochain instantané
+            }
+            log.error("Failed to write cache snapshot: {}", file, e);
+            throw new CacheException("Failed to write cache snapshot", e);
+        }
+
+        if (skipped > 0) {
+            log.warn("Skipped {} non-serializable entries in cache snapshot {}", skipped, file);
+        }
+        return written;
+    }
+
+    private static void writeBlock(DataOutputStream out, ByteArrayOutputStream block, int records) throws IOException {
+        out.writeInt(block.size());
+        out.writeInt(records);
+        block.writeTo(out);
+        block.reset();
+    }
+
+    /**
+     * Renames the snapshot file to {@code <file>.corrupt}, replacing any previous one, so that
+     * it is kept for analysis but neither loaded nor overwritten again.
+     *
+     * @return the new path, or null when the file could not be moved
+     */
+    Path moveAside() {
+        Path target = file.resolveSibling(file.getFileName() + ".corrupt");
+        try {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } catch (IOException e) {
+            log.warn("Failed to move cache snapshot aside: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Removes the snapshot file. Synchronized with {@link #write}, so a save in progress
+     * cannot recreate the file after it was deleted.
+     */
+    synchronized void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new CacheException("Failed to delete cache snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Codec name recorded in the snapshot header, or null when there is no snapshot.
+     */
+    String readCodecName() {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readHeader(channel).codecName();
+        } catch (IOException e) {
+            throw new CacheException("Failed to read cache snapshot", e);
+        }
+    }
+
+    /**
+     * Streams the snapshot into {@code sink} with {@code threads} workers, skipping records that
+     * expired in the meantime. Returns null when there is no snapshot file.
+     */
+    LoadResult load(int threads, RecordSink sink) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        AtomicLong restored = new AtomicLong();
+        AtomicLong expired = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long now = System.currentTimeMillis();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> blocks = locateBlocks(channel, readHeader(channel).dataOffset());
+            ExecutorService loaders = Executors.newFixedThreadPool(
+                    Math.max(1, Math.min(threads, blocks.size())), loaderThreadFactory());
+            try {
+                List<Future<?>> tasks = new ArrayList<>(blocks.size());
+                for (long[] block : blocks) {
+                    tasks.add(loaders.submit(() -> {
+                        loadBlock(channel.map(FileChannel.MapMode.READ_ONLY, block[0], block[1]),
+                                now, sink, restored, expired, failed);
+                        return null;
+                    }));
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            } finally {
+                loaders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheException("Interrupted while loading cache snapshot", e);
+        } catch (Exception e) {
+            throw new CacheException("Failed to load cache snapshot", e);
+        }
+
+        return new LoadResult(restored.get(), expired.get(), failed.get());
+    }
+
+    private static void loadBlock(MappedByteBuffer buffer, long now, RecordSink sink,
+                                  AtomicLong restored, AtomicLong expired, AtomicLong failed) {
+        long blockRestored = 0;
+        long blockExpired = 0;
+        long blockFailed = 0;
+
+        while (buffer.hasRemaining()) {
+            byte[] key = new byte[buffer.getInt()];
+            buffer.get(key);
+            long expiresAt = buffer.getLong();
+            boolean compressed = (buffer.get() & FLAG_COMPRESSED) != 0;
+            int valueLength = buffer.getInt();
+
+            if (expiresAt <= now) {
+                buffer.position(buffer.position() + valueLength);
+                blockExpired++;
+                continue;
+            }
+
+            byte[] value = new byte[valueLength];
+            buffer.get(value);
+            try {
+                sink.accept(new String(key, StandardCharsets.UTF_8), value, compressed, expiresAt);
+                blockRestored++;
+            } catch (RuntimeException e) {
+                blockFailed++;
+            }
+        }
+
+        restored.addAndGet(blockRestored);
+        expired.addAndGet(blockExpired);
+        failed.addAndGet(blockFailed);
+    }
+
+    private Header readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + Short.BYTES + 0xFFFF);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < Integer.BYTES + 2 * Short.BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a cache snapshot: " + file);
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported cache snapshot version " + version + ": " + file);
+        }
+        byte[] codec = new byte[header.getShort() & 0xFFFF];
+        header.get(codec);
+        String codecName = new String(codec, StandardCharsets.UTF_8);
+        return new Header(codecName.isEmpty() ? null : codecName, header.position());
+    }
+
+    /**
+     * Offsets and lengths of the record area of each block, read from the block headers only.
+     */
+    private List<long[]> locateBlocks(FileChannel channel, long offset) throws IOException {
+        List<long[]> blocks = new ArrayList<>();
+        long fileSize = channel.size();
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+
+        while (true) {
+            blockHeader.clear();
+            if (offset + BLOCK_HEADER_SIZE > fileSize || channel.read(blockHeader, offset) < BLOCK_HEADER_SIZE) {
+                throw new IOException("Truncated cache snapshot: " + file);
+            }
+            int length = blockHeader.getInt(0);
+            if (length == 0) {
+                return blocks;
+            }
+            long start = offset + BLOCK_HEADER_SIZE;
+            if (length < 0 || start + length > fileSize) {
+                throw new IOException("Truncated cache snapshot: " + file);
+            }
+            blocks.add(new long[]{start, length});
+            offset = start + length;
+        }
+    }
+
+    private static ThreadFactory loaderThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "cache-snapshot-loader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Header(String codecName, long dataOffset) {
+    }
+}
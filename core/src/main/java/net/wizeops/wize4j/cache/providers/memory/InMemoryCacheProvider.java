@@ -3,64 +3,199 @@ package net.wizeops.wize4j.cache.providers.memory;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.wizeops.wize4j.cache.api.CacheProvider;
+import net.wizeops.wize4j.cache.api.Weigher;
+import net.wizeops.wize4j.cache.compression.CompressionCodecRegistry;
 import net.wizeops.wize4j.cache.compression.CompressionStrategy;
 import net.wizeops.wize4j.cache.compression.DefaultCompressionStrategy;
 import net.wizeops.wize4j.cache.config.CacheConfiguration;
 import net.wizeops.wize4j.cache.core.CacheEntry;
 import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.core.Ticker;
+import net.wizeops.wize4j.cache.events.CacheCodecEvent;
+import net.wizeops.wize4j.cache.events.CacheEvictionEvent;
+import net.wizeops.wize4j.cache.eviction.EvictionEngine;
+import net.wizeops.wize4j.cache.eviction.LruEvictionEngine;
+import net.wizeops.wize4j.cache.eviction.WindowTinyLfuEvictionEngine;
 import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.expiry.TimerWheel;
+import net.wizeops.wize4j.cache.utils.CacheUtil;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 
 @Slf4j
 public class InMemoryCacheProvider implements CacheProvider {
+    // Nombre max d'entrées expirées retirées par get/put
+    private static final int EXPIRATION_BATCH_SIZE = 32;
+    private static final int SWEEP_BATCH_SIZE = 1024;
+
+    // Instantanés périodiques de tous les caches, sur un seul thread démon
+    private static final ScheduledExecutorService SNAPSHOT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Map<String, CacheEntry> entries;
     private final CacheConfiguration config;
+    private final String cacheName;
     @Getter
     private final CacheStatistics statistics;
     private final CompressionStrategy compressionStrategy;
-    private final AtomicLong lastCleanupTime = new AtomicLong(System.currentTimeMillis());
+    private final EvictionEngine evictionEngine;
+    private final Weigher weigher;
+    private final TimerWheel expirationWheel;
+    private final Ticker ticker;
+    private final CacheSnapshot snapshot;
+    private final ScheduledFuture<?> snapshotTask;
 
     public InMemoryCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Provider for one named cache. With {@code snapshotPath} set, the cache is restored from
+     * {@code <snapshotPath>/<cacheName>.snapshot} on creation and saved there on {@link #close()}
+     * and every {@code snapshotIntervalSeconds}. {@link #clear()} deletes the snapshot, so that
+     * cleared entries do not come back on the next restore.
+     */
+    public InMemoryCacheProvider(CacheConfiguration config, String cacheName) {
         this.config = config;
+        this.cacheName = cacheName;
         this.entries = new ConcurrentHashMap<>();
         this.statistics = config.isEnableStatistics() ? new CacheStatistics() : null;
         this.compressionStrategy = config.isEnableCompression() ?
-                new DefaultCompressionStrategy() : null;
+                new DefaultCompressionStrategy(config.getSerializer(),
+                        CompressionCodecRegistry.get(config.getCompressionCodec())) : null;
+        this.evictionEngine = createEvictionEngine(config);
+        this.weigher = config.getMaxWeightBytes() > 0 ? config.getWeigher() : null;
+        if (statistics != null) {
+            statistics.bindSize(evictionEngine::weightedSize);
+        }
+        this.ticker = config.getTicker();
+        this.expirationWheel = new TimerWheel(ticker.currentTimeMillis());
+        this.snapshot = config.getSnapshotPath() != null
+                ? new CacheSnapshot(snapshotFile(config.getSnapshotPath(), cacheName), config.getSerializer())
+                : null;
+
+        if (snapshot != null) {
+            restoreSnapshot();
+        }
+        this.snapshotTask = snapshot != null && config.getSnapshotIntervalSeconds() > 0
+                ? SNAPSHOT_SCHEDULER.scheduleWithFixedDelay(this::saveSnapshotQuietly,
+                        config.getSnapshotIntervalSeconds(), config.getSnapshotIntervalSeconds(), TimeUnit.SECONDS)
+                : null;
     }
 
     @Override
     public void put(String key, Object value, Duration ttl) {
         validateInputs(key, value, ttl);
 
-        if (entries.size() >= config.getMaxSize()) {
-            evictOldest();
+        long now = ticker.currentTimeMillis();
+        expireEntries(now, EXPIRATION_BATCH_SIZE);
+
+        store(key, value, ttl, now);
+        if (statistics != null) {
+            statistics.recordPut();
+        }
+    }
+
+    /**
+     * Single pass over the entries: the clock is read and due expirations are processed once
+     * for the whole batch, and the statistics are updated once.
+     */
+    @Override
+    public void putBulk(Map<String, Object> newEntries, Function<String, Duration> ttlForKey) {
+        if (newEntries == null || newEntries.isEmpty()) {
+            return;
         }
 
-        // Check for cleanup
-        if (shouldRunCleanup()) {
-            removeExpired();
+        long now = ticker.currentTimeMillis();
+        expireEntries(now, EXPIRATION_BATCH_SIZE);
+
+        int stored = 0;
+        for (Map.Entry<String, Object> entry : newEntries.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                Duration ttl = ttlForKey.apply(entry.getKey());
+                validateInputs(entry.getKey(), entry.getValue(), ttl);
+                store(entry.getKey(), entry.getValue(), ttl, now);
+                stored++;
+            }
         }
+        if (statistics != null) {
+            statistics.recordPuts(stored);
+        }
+    }
 
+    private void store(String key, Object value, Duration ttl, long now) {
         Object valueToStore = value;
         boolean compressed = false;
 
         // Compress if needed
         if (shouldCompress(value)) {
-            valueToStore = compressionStrategy.compress(value);
+            CacheCodecEvent event = CacheCodecEvent.start();
+            byte[] data = compressionStrategy.compress(value);
+            if (event != null) {
+                event.finishEncode(cacheName, getProviderName(), CacheCodecEvent.COMPRESS,
+                        config.getCompressionCodec(), value, data);
+            }
+            valueToStore = data;
             compressed = true;
         }
 
-        long expirationTime = System.currentTimeMillis() + ttl.toMillis();
-        entries.put(key, new CacheEntry(valueToStore, expirationTime, compressed));
+        write(key, new CacheEntry(valueToStore, now + ttl.toMillis(), compressed, now), false);
+    }
 
-        if (statistics != null) {
-            statistics.recordPut();
+    /**
+     * Maps the key to the entry, schedules its expiration and records the write in the eviction
+     * engine, all under the key's map lock like every removal, so that the engine and the wheel
+     * never disagree with the map about the key. The victims are evicted afterwards. With
+     * {@code onlyIfAbsent}, a key already mapped is left untouched.
+     */
+    private void write(String key, CacheEntry entry, boolean onlyIfAbsent) {
+        long weight = weigher != null ? weigher.weigh(key, entry.getValue()) : 1;
+        AtomicReference<List<String>> victims = new AtomicReference<>(List.of());
+        entries.compute(key, (k, current) -> {
+            if (onlyIfAbsent && current != null) {
+                return current;
+            }
+            expirationWheel.schedule(k, entry.getExpirationTime());
+            victims.set(evictionEngine.recordWrite(k, weight));
+            return entry;
+        });
+        evictVictims(victims.get());
+    }
+
+    private void evictVictims(List<String> victims) {
+        if (victims.isEmpty()) {
+            return;
+        }
+        CacheEvictionEvent event = CacheEvictionEvent.start();
+        int evicted = 0;
+        for (String victim : victims) {
+            if (removeVictim(victim)) {
+                evicted++;
+            }
+        }
+        if (statistics != null && evicted > 0) {
+            statistics.recordBulkEviction(evicted);
+        }
+        if (event != null) {
+            event.finish(cacheName, getProviderName(), CacheEvictionEvent.SIZE, evicted);
         }
     }
 
@@ -70,32 +205,71 @@ public class InMemoryCacheProvider implements CacheProvider {
             return null;
         }
 
-        CacheEntry entry = entries.get(key);
-        if (entry == null) {
-            if (statistics != null) {
+        long now = ticker.currentTimeMillis();
+        expireEntries(now, EXPIRATION_BATCH_SIZE);
+
+        Object value = lookup(key, now);
+        if (statistics != null) {
+            if (value != null) {
+                statistics.recordHit();
+            } else {
                 statistics.recordMiss();
             }
+        }
+        return value;
+    }
+
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        Map<String, Object> result = new HashMap<>();
+        long now = ticker.currentTimeMillis();
+        expireEntries(now, EXPIRATION_BATCH_SIZE);
+
+        int requested = 0;
+        for (String key : keys) {
+            if (key != null && !result.containsKey(key)) {
+                requested++;
+                Object value = lookup(key, now);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+        }
+        if (statistics != null) {
+            statistics.recordHits(result.size());
+            statistics.recordMisses(requested - result.size());
+        }
+        return result;
+    }
+
+    private Object lookup(String key, long now) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
             return null;
         }
 
-        if (entry.isExpired()) {
-            entries.remove(key);
+        if (entry.isExpired(now)) {
+            removeEntry(key, entry);
             if (statistics != null) {
                 statistics.recordEviction();
             }
             return null;
         }
 
-        entry.recordAccess();
-        if (statistics != null) {
-            statistics.recordHit();
-        }
+        entry.recordAccess(now);
+        evictionEngine.recordAccess(key);
 
         Object value = entry.getValue();
 
         // Decompress if needed
         if (entry.isCompressed() && compressionStrategy != null) {
-            value = compressionStrategy.decompress((byte[]) value);
+            CacheCodecEvent event = CacheCodecEvent.start();
+            byte[] data = (byte[]) value;
+            value = compressionStrategy.decompress(data);
+            if (event != null) {
+                event.finishDecode(cacheName, getProviderName(), CacheCodecEvent.DECOMPRESS,
+                        config.getCompressionCodec(), data, value);
+            }
         }
 
         return value;
@@ -103,15 +277,42 @@ public class InMemoryCacheProvider implements CacheProvider {
 
     @Override
     public void evict(String key) {
-        if (key != null && entries.remove(key) != null && statistics != null) {
+        if (key == null) {
+            return;
+        }
+        if (removeEntry(key, null) && statistics != null) {
             statistics.recordEviction();
         }
     }
 
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        int removed = 0;
+        for (String key : keys) {
+            if (key != null && removeEntry(key, null)) {
+                removed++;
+            }
+        }
+        if (statistics != null && removed > 0) {
+            statistics.recordBulkEviction(removed);
+        }
+        return removed;
+    }
+
     @Override
     public void clear() {
+        clearEntries();
+        // Après le vidage : une sauvegarde concurrente ne peut plus réécrire les anciennes entrées
+        if (snapshot != null) {
+            snapshot.delete();
+        }
+    }
+
+    private void clearEntries() {
         int size = entries.size();
         entries.clear();
+        evictionEngine.clear();
+        expirationWheel.clear();
         if (statistics != null && size > 0) {
             statistics.recordClear(size);
         }
@@ -119,22 +320,116 @@ public class InMemoryCacheProvider implements CacheProvider {
 
     @Override
     public void removeExpired() {
-        int count = 0;
-        for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
-            if (entry.getValue().isExpired()) {
-                entries.remove(entry.getKey());
-                count++;
+        CacheEvictionEvent event = CacheEvictionEvent.start();
+        long removed = 0;
+        // Vide la roue par lots pour ne pas monopoliser le verrou
+        while (true) {
+            long now = ticker.currentTimeMillis();
+            List<String> dueKeys = expirationWheel.advance(now, SWEEP_BATCH_SIZE);
+            removed += removeDue(dueKeys, now);
+            if (dueKeys.size() < SWEEP_BATCH_SIZE) {
+                break;
             }
+            Thread.yield();
+        }
+        if (event != null) {
+            event.finish(cacheName, getProviderName(), CacheEvictionEvent.EXPIRY_SWEEP, removed);
+        }
+    }
+
+    /**
+     * Writes the live entries to the snapshot file and returns how many were saved; does nothing
+     * when snapshots are not configured.
+     */
+    public long saveSnapshot() {
+        if (snapshot == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long written = snapshot.write(entries.entrySet(), ticker.currentTimeMillis(), config.getCompressionCodec());
+        log.info("Saved {} entries to cache snapshot {} in {} ms", written, snapshot.getFile(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return written;
+    }
+
+    private void saveSnapshotQuietly() {
+        try {
+            saveSnapshot();
+        } catch (Exception e) {
+            log.warn("Periodic cache snapshot failed", e);
         }
-        if (statistics != null && count > 0) {
-            statistics.recordBulkEviction(count);
+    }
+
+    /**
+     * Restores the snapshot, if any. An unreadable snapshot (truncated, foreign or older format,
+     * unknown codec) is moved aside and the cache starts empty rather than failing to be created.
+     */
+    private void restoreSnapshot() {
+        try {
+            loadSnapshot();
+        } catch (RuntimeException e) {
+            clearEntries();
+            Path moved = snapshot.moveAside();
+            log.warn("Ignoring unreadable cache snapshot {}{}, starting with an empty cache",
+                    snapshot.getFile(), moved != null ? " (moved to " + moved + ")" : "", e);
         }
-        lastCleanupTime.set(System.currentTimeMillis());
+    }
+
+    private void loadSnapshot() {
+        String snapshotCodec = snapshot.readCodecName();
+        // Les entrées compressées avec un autre codec sont décodées puis traitées comme un put
+        CompressionStrategy snapshotCompression = snapshotCodec != null
+                && !(compressionStrategy != null && snapshotCodec.equals(config.getCompressionCodec()))
+                ? new DefaultCompressionStrategy(config.getSerializer(), CompressionCodecRegistry.get(snapshotCodec))
+                : null;
+
+        long start = System.nanoTime();
+        long toTicker = ticker.currentTimeMillis() - System.currentTimeMillis();
+        CacheSnapshot.LoadResult result = snapshot.load(config.getSnapshotLoadThreads(), (key, data, compressed, expiresAt) -> {
+            Object value;
+            boolean storeCompressed = false;
+            if (compressed && snapshotCompression == null) {
+                value = data;
+                storeCompressed = true;
+            } else {
+                value = compressed ? snapshotCompression.decompress(data) : config.getSerializer().deserialize(data);
+                if (shouldCompress(value)) {
+                    value = compressionStrategy.compress(value);
+                    storeCompressed = true;
+                }
+            }
+
+            long now = ticker.currentTimeMillis();
+            // Une écriture faite pendant le chargement est plus récente que l'instantané
+            write(key, new CacheEntry(value, expiresAt + toTicker, storeCompressed, now), true);
+        });
+
+        if (result != null) {
+            log.info("Restored {} entries from cache snapshot {} in {} ms ({} expired, {} unreadable)",
+                    result.restored(), snapshot.getFile(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    result.expired(), result.failed());
+        }
+    }
+
+    private static Path snapshotFile(String directory, String cacheName) {
+        String name = Objects.requireNonNullElse(cacheName, "default").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(directory, name + ".snapshot");
     }
 
     @Override
     public void close() {
-        clear();
+        if (snapshotTask != null) {
+            snapshotTask.cancel(false);
+        }
+        if (snapshot != null) {
+            try {
+                saveSnapshot();
+            } catch (Exception e) {
+                log.error("Failed to save cache snapshot on close", e);
+            }
+        }
+        // Le snapshot qui vient d'être écrit doit survivre à la fermeture
+        clearEntries();
     }
 
     @Override
@@ -154,15 +449,12 @@ public class InMemoryCacheProvider implements CacheProvider {
         }
     }
 
-    private void evictOldest() {
-        if (entries.isEmpty()) {
-            return;
-        }
-
-        entries.entrySet().stream()
-                .min(Comparator.comparingLong(e -> e.getValue().getLastAccessTime().get()))
-                .map(Map.Entry::getKey)
-                .ifPresent(this::evict);
+    private static EvictionEngine createEvictionEngine(CacheConfiguration config) {
+        long maximum = config.getMaxWeightBytes() > 0 ? config.getMaxWeightBytes() : config.getMaxSize();
+        return switch (config.getEvictionPolicy()) {
+            case LRU -> new LruEvictionEngine(maximum);
+            case W_TINY_LFU -> new WindowTinyLfuEvictionEngine(maximum, config.getMaxSize());
+        };
     }
 
     private boolean shouldCompress(Object value) {
@@ -178,13 +470,76 @@ public class InMemoryCacheProvider implements CacheProvider {
     }
 
     private long estimateSize(Object obj) {
-        // Réutiliser le code de CacheUtil pour estimer la taille
-        return 0; // À implémenter
+        return CacheUtil.estimateObjectSize(obj);
     }
 
-    private boolean shouldRunCleanup() {
-        return System.currentTimeMillis() - lastCleanupTime.get() >
-                Duration.ofMinutes(config.getCleanupIntervalMinutes()).toMillis();
+    private void expireEntries(long now, int maxExpired) {
+        List<String> dueKeys = expirationWheel.advance(now, maxExpired);
+        if (dueKeys.isEmpty()) {
+            return;
+        }
+
+        CacheEvictionEvent event = CacheEvictionEvent.start();
+        int removed = removeDue(dueKeys, now);
+        if (event != null) {
+            event.finish(cacheName, getProviderName(), CacheEvictionEvent.EXPIRED, removed);
+        }
+    }
+
+    private int removeDue(List<String> dueKeys, long now) {
+        int[] count = new int[1];
+        for (String dueKey : dueKeys) {
+            entries.computeIfPresent(dueKey, (k, current) -> {
+                if (current.isExpired(now)) {
+                    evictionEngine.recordRemoval(k);
+                    count[0]++;
+                    return null;
+                }
+                // L'échéance d'une écriture remplacée a pu rester dans la roue :
+                // l'entrée courante est replanifiée pour expirer à son tour
+                expirationWheel.schedule(k, current.getExpirationTime());
+                return current;
+            });
+        }
+        if (statistics != null && count[0] > 0) {
+            statistics.recordBulkEviction(count[0]);
+        }
+        return count[0];
+    }
+
+    /**
+     * Removes the key, or only its {@code expected} entry when not null, together with its
+     * eviction engine record and its expiration.
+     */
+    private boolean removeEntry(String key, CacheEntry expected) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(key, (k, current) -> {
+            if (expected != null && current != expected) {
+                return current;
+            }
+            evictionEngine.recordRemoval(k);
+            expirationWheel.deschedule(k);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes a key designated by the eviction engine, unless it was written again since: the
+     * engine then tracks it anew and the rewritten value stays.
+     */
+    private boolean removeVictim(String key) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(key, (k, current) -> {
+            if (evictionEngine.contains(k)) {
+                return current;
+            }
+            expirationWheel.deschedule(k);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
     }
 }
 
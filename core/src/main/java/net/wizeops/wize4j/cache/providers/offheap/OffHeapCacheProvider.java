@@ -0,0 +1,291 @@
+package net.wizeops.wize4j.cache.providers.offheap;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.CacheProvider;
+import net.wizeops.wize4j.cache.compression.CompressionCodec;
+import net.wizeops.wize4j.cache.compression.CompressionCodecRegistry;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.core.Ticker;
+import net.wizeops.wize4j.cache.events.CacheCodecEvent;
+import net.wizeops.wize4j.cache.events.CacheEvictionEvent;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Stores serialized values in direct memory so that large caches stay out of the
+ * garbage-collected heap. Capacity is bounded by {@code offHeapMaxBytes}; values are
+ * compressed with the configured {@link CompressionCodec} above
+ * {@code compressionThresholdBytes}. One eighth of the capacity is reserved for the lookup
+ * index, so slabs and index together never exceed {@code offHeapMaxBytes}. A value that does
+ * not fit in one slab is not cached and is counted in {@link CacheStatistics#getRejectedPuts()}.
+ */
+@Slf4j
+public class OffHeapCacheProvider implements CacheProvider {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SLABS_PER_SEGMENT = 8;
+    private static final int INDEX_SHARE = 8;
+    private static final long MIN_INDEX_BYTES = (long) OffHeapSegment.INITIAL_SLOTS * OffHeapSegment.SLOT_SIZE;
+    private static final int MAX_INDEX_SLOTS = 1 << 26;
+
+    private final CacheConfiguration config;
+    private final String cacheName;
+    private final OffHeapSegment[] segments;
+    private final int segmentMask;
+    @Getter
+    private final CacheStatistics statistics;
+    // Les valeurs sont déjà sérialisées : le codec travaille directement sur les octets
+    private final CompressionCodec codec;
+    private final Serializer serializer;
+    private final Ticker ticker;
+
+    public OffHeapCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    public OffHeapCacheProvider(CacheConfiguration config, String cacheName) {
+        if (config.getOffHeapSlabSizeBytes() <= OffHeapSegment.HEADER_SIZE) {
+            throw new CacheException("Off-heap slab size is too small: " + config.getOffHeapSlabSizeBytes());
+        }
+        long indexBytes = Math.max(MIN_INDEX_BYTES, config.getOffHeapMaxBytes() / INDEX_SHARE);
+        long totalSlabs = (config.getOffHeapMaxBytes() - indexBytes) / config.getOffHeapSlabSizeBytes();
+        if (totalSlabs < 1) {
+            throw new CacheException("Off-heap capacity must hold at least one slab and its index: "
+                    + config.getOffHeapMaxBytes());
+        }
+
+        this.config = config;
+        this.cacheName = cacheName;
+        this.ticker = config.getTicker();
+        this.statistics = config.isEnableStatistics() ? new CacheStatistics() : null;
+        this.serializer = config.getSerializer();
+        this.codec = config.isEnableCompression() ? CompressionCodecRegistry.get(config.getCompressionCodec()) : null;
+
+        // Chaque segment doit pouvoir loger au moins l'index initial dans sa part du budget
+        long maxSegments = Math.min(MAX_SEGMENTS, indexBytes / MIN_INDEX_BYTES);
+        int segmentCount = Integer.highestOneBit(
+                (int) Math.max(1, Math.min(maxSegments, totalSlabs / MIN_SLABS_PER_SEGMENT)));
+        int slabsPerSegment = (int) Math.max(1, totalSlabs / segmentCount);
+        int indexSlotsPerSegment = Integer.highestOneBit(
+                (int) Math.min(MAX_INDEX_SLOTS, indexBytes / segmentCount / OffHeapSegment.SLOT_SIZE));
+
+        this.segments = new OffHeapSegment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new OffHeapSegment(slabsPerSegment, config.getOffHeapSlabSizeBytes(), indexSlotsPerSegment);
+        }
+        this.segmentMask = segmentCount - 1;
+        if (statistics != null) {
+            statistics.bindSize(this::size);
+        }
+
+        log.info("Off-heap cache provider initialized: {} segments x {} slabs of {} bytes, up to {} index slots each",
+                segmentCount, slabsPerSegment, config.getOffHeapSlabSizeBytes(), indexSlotsPerSegment);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        validateInputs(key, value, ttl);
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        CacheCodecEvent serializeEvent = CacheCodecEvent.start();
+        byte[] data = serializer.serialize(value);
+        if (serializeEvent != null) {
+            serializeEvent.finishEncode(cacheName, getProviderName(), CacheCodecEvent.SERIALIZE,
+                    serializer.getClass().getSimpleName(), value, data);
+        }
+        byte flags = 0;
+
+        // Compress if needed
+        if (codec != null && data.length > config.getCompressionThresholdBytes()) {
+            CacheCodecEvent compressEvent = CacheCodecEvent.start();
+            byte[] serialized = data;
+            data = codec.compress(serialized);
+            if (compressEvent != null) {
+                compressEvent.finishEncode(cacheName, getProviderName(), CacheCodecEvent.COMPRESS,
+                        config.getCompressionCodec(), serialized, data);
+            }
+            flags = OffHeapSegment.FLAG_COMPRESSED;
+        }
+
+        int hash = hash(keyBytes);
+        OffHeapSegment segment = segmentFor(hash);
+        if (!segment.fits(keyBytes.length, data.length)) {
+            log.warn("Value for key {} ({} bytes) exceeds the off-heap slab size of {} bytes, not cached",
+                    key, data.length, config.getOffHeapSlabSizeBytes());
+            // L'ancienne valeur ne doit pas survivre à une écriture refusée
+            if (segment.remove(keyBytes, hash) && statistics != null) {
+                statistics.recordEviction();
+            }
+            if (statistics != null) {
+                statistics.recordRejectedPut();
+            }
+            return;
+        }
+
+        CacheEvictionEvent evictionEvent = CacheEvictionEvent.start();
+        int evicted = segment.put(keyBytes, hash, data, ticker.currentTimeMillis() + ttl.toMillis(), flags);
+        if (evictionEvent != null) {
+            // Le recyclage d'une slab retire aussi les entrées expirées qu'elle contenait
+            evictionEvent.finish(cacheName, getProviderName(), CacheEvictionEvent.SIZE, evicted);
+        }
+
+        if (statistics != null) {
+            statistics.recordPut();
+            if (evicted > 0) {
+                statistics.recordBulkEviction(evicted);
+            }
+        }
+    }
+
+    @Override
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(keyBytes);
+        OffHeapSegment.Value stored = segmentFor(hash).get(keyBytes, hash, ticker.currentTimeMillis());
+
+        if (stored == null) {
+            if (statistics != null) {
+                statistics.recordMiss();
+            }
+            return null;
+        }
+
+        if (stored == OffHeapSegment.EXPIRED) {
+            if (statistics != null) {
+                statistics.recordEviction();
+            }
+            return null;
+        }
+
+        if (statistics != null) {
+            statistics.recordHit();
+        }
+
+        byte[] data = stored.data();
+
+        // Decompress if needed
+        if (stored.isCompressed()) {
+            CacheCodecEvent decompressEvent = CacheCodecEvent.start();
+            byte[] compressed = data;
+            data = codec.decompress(compressed);
+            if (decompressEvent != null) {
+                decompressEvent.finishDecode(cacheName, getProviderName(), CacheCodecEvent.DECOMPRESS,
+                        config.getCompressionCodec(), compressed, data);
+            }
+        }
+
+        CacheCodecEvent deserializeEvent = CacheCodecEvent.start();
+        Object value = serializer.deserialize(data);
+        if (deserializeEvent != null) {
+            deserializeEvent.finishDecode(cacheName, getProviderName(), CacheCodecEvent.DESERIALIZE,
+                    serializer.getClass().getSimpleName(), data, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(String key) {
+        if (key == null) {
+            return;
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(keyBytes);
+        if (segmentFor(hash).remove(keyBytes, hash) && statistics != null) {
+            statistics.recordEviction();
+        }
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        int removed = 0;
+        for (String key : keys) {
+            if (key != null) {
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                int hash = hash(keyBytes);
+                if (segmentFor(hash).remove(keyBytes, hash)) {
+                    removed++;
+                }
+            }
+        }
+        if (statistics != null && removed > 0) {
+            statistics.recordBulkEviction(removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        int size = 0;
+        for (OffHeapSegment segment : segments) {
+            size += segment.clear();
+        }
+        if (statistics != null && size > 0) {
+            statistics.recordClear(size);
+        }
+    }
+
+    @Override
+    public void removeExpired() {
+        CacheEvictionEvent event = CacheEvictionEvent.start();
+        int removed = 0;
+        for (OffHeapSegment segment : segments) {
+            removed += segment.removeExpired(ticker.currentTimeMillis());
+        }
+        if (statistics != null && removed > 0) {
+            statistics.recordBulkEviction(removed);
+        }
+        if (event != null) {
+            event.finish(cacheName, getProviderName(), CacheEvictionEvent.EXPIRY_SWEEP, removed);
+        }
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    @Override
+    public String getProviderName() {
+        return "OffHeap";
+    }
+
+    public long size() {
+        long size = 0;
+        for (OffHeapSegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private OffHeapSegment segmentFor(int hash) {
+        return segments[(hash >>> 24) & segmentMask];
+    }
+
+    private static int hash(byte[] keyBytes) {
+        int h = Arrays.hashCode(keyBytes) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void validateInputs(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Cache key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Cache value cannot be null");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new CacheException("TTL must be positive");
+        }
+    }
+}
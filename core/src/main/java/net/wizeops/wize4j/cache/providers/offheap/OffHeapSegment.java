@@ -0,0 +1,364 @@
+package net.wizeops.wize4j.cache.providers.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One lock-striped partition of the off-heap store.
+ *
+ * <p>Records are appended to a ring of direct-memory slabs. When the ring wraps, the
+ * oldest slab is recycled as a whole and the records it still indexes are evicted
+ * (FIFO by slab). Lookups go through an open-addressing index that also lives in
+ * direct memory: 16 bytes per slot holding the record address and the key hash. The index
+ * never grows past {@code maxIndexSlots}; once it is full, the oldest slabs are recycled
+ * early so that slabs and index together stay within the segment's share of
+ * {@code offHeapMaxBytes}.
+ *
+ * <p>Record layout: {@code hash:int | keyLength:int | valueLength:int | expiresAt:long | flags:byte | key | value}
+ */
+final class OffHeapSegment {
+    static final byte FLAG_COMPRESSED = 1;
+    static final int HEADER_SIZE = 21;
+    static final Value EXPIRED = new Value(null, (byte) 0);
+
+    private static final int HASH_OFFSET = 0;
+    private static final int KEY_LENGTH_OFFSET = 4;
+    private static final int VALUE_LENGTH_OFFSET = 8;
+    private static final int EXPIRES_AT_OFFSET = 12;
+    private static final int FLAGS_OFFSET = 20;
+
+    static final int SLOT_SIZE = 16;
+    static final int INITIAL_SLOTS = 1024;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final int[] slabUsed;
+    private final int maxIndexSlots;
+    private int writeSlab;
+
+    private ByteBuffer index;
+    private int indexMask;
+    private int indexSize;
+
+    record Value(byte[] data, byte flags) {
+        boolean isCompressed() {
+            return (flags & FLAG_COMPRESSED) != 0;
+        }
+    }
+
+    OffHeapSegment(int slabCount, int slabSize, int maxIndexSlots) {
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabUsed = new int[slabCount];
+        this.maxIndexSlots = maxIndexSlots;
+        allocateIndex(INITIAL_SLOTS);
+    }
+
+    boolean fits(int keyLength, int valueLength) {
+        return (long) HEADER_SIZE + keyLength + valueLength <= slabSize;
+    }
+
+    /**
+     * Stores the record, replacing any previous one for the key.
+     *
+     * @return number of live entries evicted to make room
+     */
+    int put(byte[] key, int hash, byte[] value, long expiresAt, byte flags) {
+        int recordSize = HEADER_SIZE + key.length + value.length;
+        lock.lock();
+        try {
+            int slot = find(key, hash);
+            if (slot >= 0) {
+                removeSlot(slot);
+            }
+
+            int evicted = makeIndexRoom();
+            if (slabs[writeSlab] == null) {
+                slabs[writeSlab] = ByteBuffer.allocateDirect(slabSize);
+            } else if (slabUsed[writeSlab] + recordSize > slabSize) {
+                writeSlab = (writeSlab + 1) % slabs.length;
+                evicted += recycle(writeSlab);
+            }
+
+            ByteBuffer slab = slabs[writeSlab];
+            int offset = slabUsed[writeSlab];
+            slab.putInt(offset + HASH_OFFSET, hash);
+            slab.putInt(offset + KEY_LENGTH_OFFSET, key.length);
+            slab.putInt(offset + VALUE_LENGTH_OFFSET, value.length);
+            slab.putLong(offset + EXPIRES_AT_OFFSET, expiresAt);
+            slab.put(offset + FLAGS_OFFSET, flags);
+            slab.put(offset + HEADER_SIZE, key);
+            slab.put(offset + HEADER_SIZE + key.length, value);
+            slabUsed[writeSlab] = offset + recordSize;
+
+            insertSlot(hash, address(writeSlab, offset));
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the stored value, {@link #EXPIRED} if it was found expired (and removed), or null
+     */
+    Value get(byte[] key, int hash, long now) {
+        lock.lock();
+        try {
+            int slot = find(key, hash);
+            if (slot < 0) {
+                return null;
+            }
+
+            long address = slotAddress(slot);
+            ByteBuffer slab = slabs[slabOf(address)];
+            int offset = offsetOf(address);
+            if (slab.getLong(offset + EXPIRES_AT_OFFSET) <= now) {
+                removeSlot(slot);
+                return EXPIRED;
+            }
+
+            byte[] data = new byte[slab.getInt(offset + VALUE_LENGTH_OFFSET)];
+            slab.get(offset + HEADER_SIZE + key.length, data);
+            return new Value(data, slab.get(offset + FLAGS_OFFSET));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean remove(byte[] key, int hash) {
+        lock.lock();
+        try {
+            int slot = find(key, hash);
+            if (slot < 0) {
+                return false;
+            }
+            removeSlot(slot);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int clear() {
+        lock.lock();
+        try {
+            int removed = indexSize;
+            Arrays.fill(slabs, null);
+            Arrays.fill(slabUsed, 0);
+            writeSlab = 0;
+            allocateIndex(INITIAL_SLOTS);
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the index slots of expired records. Their bytes stay in the slab until it is
+     * recycled, but they no longer count in {@link #size()} nor fill the index.
+     *
+     * @return number of expired entries removed
+     */
+    int removeExpired(long now) {
+        lock.lock();
+        try {
+            int removed = 0;
+            int slot = 0;
+            while (slot <= indexMask) {
+                long address = slotAddress(slot);
+                if (address >= 0 && slabs[slabOf(address)].getLong(offsetOf(address) + EXPIRES_AT_OFFSET) <= now) {
+                    // La suppression décale les slots suivants : on relit le même slot
+                    removeSlot(slot);
+                    removed++;
+                } else {
+                    slot++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return indexSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int recycle(int slabIndex) {
+        ByteBuffer slab = slabs[slabIndex];
+        if (slab == null) {
+            slabs[slabIndex] = ByteBuffer.allocateDirect(slabSize);
+            return 0;
+        }
+
+        int evicted = 0;
+        int offset = 0;
+        int used = slabUsed[slabIndex];
+        while (offset < used) {
+            int hash = slab.getInt(offset + HASH_OFFSET);
+            int slot = findAddress(hash, address(slabIndex, offset));
+            if (slot >= 0) {
+                removeSlot(slot);
+                evicted++;
+            }
+            offset += HEADER_SIZE + slab.getInt(offset + KEY_LENGTH_OFFSET) + slab.getInt(offset + VALUE_LENGTH_OFFSET);
+        }
+        slabUsed[slabIndex] = 0;
+        return evicted;
+    }
+
+    // Index plein à sa taille maximale : on recycle les slabs les plus anciennes, y compris
+    // celle d'écriture en dernier recours, avant d'écrire le nouvel enregistrement
+    private int makeIndexRoom() {
+        int evicted = 0;
+        for (int i = 1; i <= slabs.length && indexFull(); i++) {
+            int oldest = (writeSlab + i) % slabs.length;
+            if (slabs[oldest] != null) {
+                evicted += recycle(oldest);
+            }
+        }
+        return evicted;
+    }
+
+    private boolean indexFull() {
+        return indexMask + 1 >= maxIndexSlots && indexSize + 1 > (indexMask + 1) * LOAD_FACTOR;
+    }
+
+    private int find(byte[] key, int hash) {
+        int slot = hash & indexMask;
+        while (true) {
+            long address = slotAddress(slot);
+            if (address < 0) {
+                return -1;
+            }
+            if (slotHash(slot) == hash && keyMatches(address, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+    }
+
+    private int findAddress(int hash, long target) {
+        int slot = hash & indexMask;
+        while (true) {
+            long address = slotAddress(slot);
+            if (address < 0) {
+                return -1;
+            }
+            if (address == target) {
+                return slot;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+    }
+
+    private boolean keyMatches(long address, byte[] key) {
+        ByteBuffer slab = slabs[slabOf(address)];
+        int offset = offsetOf(address);
+        if (slab.getInt(offset + KEY_LENGTH_OFFSET) != key.length) {
+            return false;
+        }
+        int keyOffset = offset + HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (slab.get(keyOffset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insertSlot(int hash, long address) {
+        if (indexSize + 1 > (indexMask + 1) * LOAD_FACTOR && indexMask + 1 < maxIndexSlots) {
+            resizeIndex();
+        }
+        int slot = hash & indexMask;
+        while (slotAddress(slot) >= 0) {
+            slot = (slot + 1) & indexMask;
+        }
+        writeSlot(index, slot, address, hash);
+        indexSize++;
+    }
+
+    // Backward-shift deletion keeps probe sequences intact without tombstones
+    private void removeSlot(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & indexMask;
+            long address = slotAddress(next);
+            if (address < 0) {
+                break;
+            }
+            int home = slotHash(next) & indexMask;
+            boolean movable = hole <= next
+                    ? home <= hole || home > next
+                    : home <= hole && home > next;
+            if (movable) {
+                writeSlot(index, hole, address, slotHash(next));
+                hole = next;
+            }
+        }
+        index.putLong(hole * SLOT_SIZE, 0L);
+        index.putInt(hole * SLOT_SIZE + 8, 0);
+        indexSize--;
+    }
+
+    private void resizeIndex() {
+        ByteBuffer previous = index;
+        int previousSlots = indexMask + 1;
+        allocateIndex(previousSlots << 1);
+        for (int i = 0; i < previousSlots; i++) {
+            long stored = previous.getLong(i * SLOT_SIZE);
+            if (stored != 0L) {
+                int hash = previous.getInt(i * SLOT_SIZE + 8);
+                int slot = hash & indexMask;
+                while (slotAddress(slot) >= 0) {
+                    slot = (slot + 1) & indexMask;
+                }
+                index.putLong(slot * SLOT_SIZE, stored);
+                index.putInt(slot * SLOT_SIZE + 8, hash);
+                indexSize++;
+            }
+        }
+    }
+
+    private void allocateIndex(int slots) {
+        this.index = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+        this.indexMask = slots - 1;
+        this.indexSize = 0;
+    }
+
+    // Addresses are stored +1 so that a zeroed slot means "empty"
+    private long slotAddress(int slot) {
+        return index.getLong(slot * SLOT_SIZE) - 1;
+    }
+
+    private int slotHash(int slot) {
+        return index.getInt(slot * SLOT_SIZE + 8);
+    }
+
+    private static void writeSlot(ByteBuffer index, int slot, long address, int hash) {
+        index.putLong(slot * SLOT_SIZE, address + 1);
+        index.putInt(slot * SLOT_SIZE + 8, hash);
+    }
+
+    private static long address(int slabIndex, int offset) {
+        return ((long) slabIndex << 32) | offset;
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+}
@@ -0,0 +1,279 @@
+package net.wizeops.wize4j.cache.providers.tiered;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.CacheProvider;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Two-level cache: a small local L1 in front of a shared remote L2.
+ * <p>
+ * Reads try L1, then L2, promoting L2 hits into L1. Writes and evictions go to L2 first,
+ * then L1. L1 entries live at most {@code tieredLocalTtlSeconds}, which bounds how long a
+ * node can serve a value changed by another node, and never longer than the L2 entry they
+ * were promoted from.
+ * <p>
+ * A promotion that raced with a write or eviction of the same key on this node is dropped:
+ * each key maps to an invalidation counter, bumped between the L2 and the L1 update, and the
+ * promoted entry is evicted again when the counter moved since the L2 read.
+ * <p>
+ * {@link #getStatistics()} counts overall hits and misses; the per-tier counters are available
+ * through {@link CacheStatistics#getTier(String)} under {@link #L1} and {@link #L2}.
+ */
+@Slf4j
+public class TieredCacheProvider implements CacheProvider {
+    public static final String L1 = "L1";
+    public static final String L2 = "L2";
+
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    @Getter
+    private final CacheProvider local;
+    @Getter
+    private final CacheProvider remote;
+    @Getter
+    private final CacheStatistics statistics;
+    private final Duration localTtl;
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+
+    public TieredCacheProvider(CacheConfiguration config, CacheProvider local, CacheProvider remote) {
+        if (local == null || remote == null) {
+            throw new CacheException("Both cache tiers are required");
+        }
+        if (config.getTieredLocalTtlSeconds() <= 0) {
+            throw new CacheException("L1 TTL must be positive");
+        }
+        this.local = local;
+        this.remote = remote;
+        this.localTtl = Duration.ofSeconds(config.getTieredLocalTtlSeconds());
+        this.statistics = config.isEnableStatistics() ? new CacheStatistics() : null;
+        if (statistics != null) {
+            statistics.registerTier(L1, local.getStatistics());
+            statistics.registerTier(L2, remote.getStatistics());
+        }
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        remote.put(key, value, ttl);
+        invalidate(key);
+        local.put(key, value, localTtl(ttl));
+        if (statistics != null) {
+            statistics.recordPut();
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Object value, Duration ttl) {
+        if (!remote.putIfAbsent(key, value, ttl)) {
+            return false;
+        }
+        invalidate(key);
+        local.put(key, value, localTtl(ttl));
+        if (statistics != null) {
+            statistics.recordPut();
+        }
+        return true;
+    }
+
+    @Override
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        Object value = local.get(key);
+        if (value == null) {
+            long stamp = invalidationStamp(key);
+            value = remote.get(key);
+            if (value != null) {
+                Duration ttl = promotionTtl(remote.getRemainingTtl(key));
+                if (ttl != null) {
+                    local.put(key, value, ttl);
+                    dropIfInvalidated(key, stamp);
+                }
+            }
+        }
+
+        if (statistics != null) {
+            if (value != null) {
+                statistics.recordHit();
+            } else {
+                statistics.recordMiss();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key != null) {
+                requested.add(key);
+            }
+        }
+        Map<String, Object> result = new HashMap<>(local.getBulk(requested));
+
+        List<String> missing = new ArrayList<>();
+        for (String key : requested) {
+            if (!result.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long[] stamps = new long[missing.size()];
+            for (int i = 0; i < stamps.length; i++) {
+                stamps[i] = invalidationStamp(missing.get(i));
+            }
+            Map<String, Object> fromRemote = remote.getBulk(missing);
+            result.putAll(fromRemote);
+            promoteAll(missing, stamps, fromRemote);
+        }
+
+        if (statistics != null) {
+            statistics.recordHits(result.size());
+            statistics.recordMisses(requested.size() - result.size());
+        }
+        return result;
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Function<String, Duration> ttlForKey) {
+        remote.putBulk(entries, ttlForKey);
+        for (String key : entries.keySet()) {
+            if (key != null) {
+                invalidate(key);
+            }
+        }
+        local.putBulk(entries, key -> localTtl(ttlForKey.apply(key)));
+        if (statistics != null) {
+            statistics.recordPuts(entries.size());
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        remote.evict(key);
+        invalidate(key);
+        local.evict(key);
+        if (statistics != null) {
+            statistics.recordEviction();
+        }
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        long removed = remote.evictBulk(keys);
+        for (String key : keys) {
+            if (key != null) {
+                invalidate(key);
+            }
+        }
+        local.evictBulk(keys);
+        if (statistics != null && removed > 0) {
+            statistics.recordBulkEviction((int) removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearEpoch.incrementAndGet();
+        local.clear();
+        if (statistics != null) {
+            statistics.recordClear(0);
+        }
+    }
+
+    @Override
+    public void removeExpired() {
+        local.removeExpired();
+        remote.removeExpired();
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            local.close();
+        } finally {
+            remote.close();
+        }
+    }
+
+    @Override
+    public String getProviderName() {
+        return "Tiered(" + local.getProviderName() + "+" + remote.getProviderName() + ")";
+    }
+
+    private Duration localTtl(Duration ttl) {
+        return ttl != null && ttl.compareTo(localTtl) < 0 ? ttl : localTtl;
+    }
+
+    /**
+     * L1 TTL of an entry promoted from L2, capped by what remains of its L2 TTL; null when the
+     * L2 entry is about to expire and should not be promoted.
+     */
+    private Duration promotionTtl(Duration remoteRemaining) {
+        Duration ttl = localTtl(remoteRemaining);
+        return ttl.isNegative() || ttl.isZero() ? null : ttl;
+    }
+
+    private void promoteAll(List<String> keys, long[] stamps, Map<String, Object> fromRemote) {
+        if (fromRemote.isEmpty()) {
+            return;
+        }
+        Map<String, Duration> remaining = remote.getRemainingTtls(fromRemote.keySet());
+        Map<String, Object> toPromote = new HashMap<>();
+        Map<String, Duration> ttls = new HashMap<>();
+        fromRemote.forEach((key, value) -> {
+            Duration ttl = promotionTtl(remaining.get(key));
+            if (ttl != null) {
+                toPromote.put(key, value);
+                ttls.put(key, ttl);
+            }
+        });
+        local.putBulk(toPromote, ttls::get);
+        for (int i = 0; i < stamps.length; i++) {
+            if (toPromote.containsKey(keys.get(i))) {
+                dropIfInvalidated(keys.get(i), stamps[i]);
+            }
+        }
+    }
+
+    // Un put ou evict local passé entre la lecture L2 et l'écriture L1 rend la promotion périmée
+    private void dropIfInvalidated(String key, long stamp) {
+        if (invalidationStamp(key) != stamp) {
+            local.evict(key);
+        }
+    }
+
+    private long invalidationStamp(String key) {
+        return clearEpoch.get() + invalidations.get(stripe(key));
+    }
+
+    private void invalidate(String key) {
+        invalidations.incrementAndGet(stripe(key));
+    }
+
+    private static int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (INVALIDATION_STRIPES - 1);
+    }
+}
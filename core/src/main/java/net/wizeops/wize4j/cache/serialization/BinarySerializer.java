@@ -0,0 +1,622 @@
+package net.wizeops.wize4j.cache.serialization;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact tagged binary format for the value types most often cached: primitives and their
+ * wrappers, strings, byte arrays, enums, UUIDs, big numbers, common {@code java.time} types,
+ * the standard JDK lists/sets/maps and records. Anything else falls back to Java serialization
+ * inside the stream.
+ * <p>
+ * Opt-in through {@code CacheConfiguration.serializer} or per cache. Payloads written by
+ * {@link JavaSerializer} are still readable, and {@link JavaSerializer} reads this format, so
+ * switching a cache to this serializer neither invalidates data already stored in a remote
+ * provider nor breaks nodes that have not switched yet.
+ * <p>
+ * Each thread reuses its own output buffer, so serializing allocates only the returned array.
+ */
+@Slf4j
+public class BinarySerializer implements Serializer {
+    public static final BinarySerializer INSTANCE = new BinarySerializer();
+
+    private static final byte MAGIC = 'W';
+    private static final byte VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_DEPTH = 256;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte TRUE = 8;
+    private static final byte FALSE = 9;
+    private static final byte CHAR = 10;
+    private static final byte BYTES = 11;
+    private static final byte INT_ARRAY = 12;
+    private static final byte LONG_ARRAY = 13;
+    private static final byte ARRAY_LIST = 14;
+    private static final byte IMMUTABLE_LIST = 15;
+    private static final byte HASH_SET = 16;
+    private static final byte LINKED_HASH_SET = 17;
+    private static final byte IMMUTABLE_SET = 18;
+    private static final byte HASH_MAP = 19;
+    private static final byte LINKED_HASH_MAP = 20;
+    private static final byte IMMUTABLE_MAP = 21;
+    private static final byte ENUM = 22;
+    private static final byte RECORD = 23;
+    private static final byte UUID_TYPE = 24;
+    private static final byte BIG_INTEGER = 25;
+    private static final byte BIG_DECIMAL = 26;
+    private static final byte INSTANT = 27;
+    private static final byte LOCAL_DATE = 28;
+    private static final byte LOCAL_DATE_TIME = 29;
+    private static final byte DURATION = 30;
+    private static final byte JAVA = 31;
+
+    private static final Class<?> IMMUTABLE_LIST_12 = List.of(1).getClass();
+    private static final Class<?> IMMUTABLE_LIST_N = List.of().getClass();
+    private static final Class<?> IMMUTABLE_SET_12 = Set.of(1).getClass();
+    private static final Class<?> IMMUTABLE_SET_N = Set.of().getClass();
+    private static final Class<?> IMMUTABLE_MAP_1 = Map.of(1, 1).getClass();
+    private static final Class<?> IMMUTABLE_MAP_N = Map.of().getClass();
+
+    private final ThreadLocal<Output> outputs = ThreadLocal.withInitial(Output::new);
+    private final Map<ClassKey, Class<?>> classes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, RecordCodec> recordCodecs = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) return null;
+        Output out = outputs.get();
+        out.reset();
+        try {
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            write(out, value, 0);
+            return out.toByteArray();
+        } catch (CacheException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error serializing object of type {}", value.getClass().getName(), e);
+            throw new CacheException("Failed to serialize object", e);
+        } finally {
+            out.release();
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] data) {
+        if (data == null) return null;
+        if (data.length >= 2 && data[0] == (byte) 0xAC && data[1] == (byte) 0xED) {
+            return JavaSerializer.INSTANCE.deserialize(data);
+        }
+        if (!isBinaryPayload(data)) {
+            throw new CacheException("Failed to deserialize object: unknown payload format");
+        }
+        try {
+            Input in = new Input(data, 2);
+            return read(in, 0);
+        } catch (CacheException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error deserializing object", e);
+            throw new CacheException("Failed to deserialize object", e);
+        }
+    }
+
+    static boolean isBinaryPayload(byte[] data) {
+        return data.length >= 3 && data[0] == MAGIC && data[1] == VERSION;
+    }
+
+    private void write(Output out, Object value, int depth) throws Exception {
+        if (depth > MAX_DEPTH) {
+            throw new CacheException("Failed to serialize object: graph is too deep or cyclic");
+        }
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            out.writeByte(STRING);
+            out.writeString((String) value);
+        } else if (type == Integer.class) {
+            out.writeByte(INT);
+            out.writeVarLong(zigZag((Integer) value));
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            out.writeVarLong(zigZag((Long) value));
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (type == Boolean.class) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (type == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeInt(Float.floatToRawIntBits((Float) value));
+        } else if (type == Short.class) {
+            out.writeByte(SHORT);
+            out.writeVarLong(zigZag((Short) value));
+        } else if (type == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (type == Character.class) {
+            out.writeByte(CHAR);
+            out.writeVarLong((Character) value);
+        } else if (type == byte[].class) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(BYTES);
+            out.writeVarLong(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (type == int[].class) {
+            int[] ints = (int[]) value;
+            out.writeByte(INT_ARRAY);
+            out.writeVarLong(ints.length);
+            for (int i : ints) out.writeVarLong(zigZag(i));
+        } else if (type == long[].class) {
+            long[] longs = (long[]) value;
+            out.writeByte(LONG_ARRAY);
+            out.writeVarLong(longs.length);
+            for (long l : longs) out.writeVarLong(zigZag(l));
+        } else if (type == ArrayList.class) {
+            writeCollection(out, ARRAY_LIST, (Collection<?>) value, depth);
+        } else if (type == IMMUTABLE_LIST_12 || type == IMMUTABLE_LIST_N) {
+            writeCollection(out, IMMUTABLE_LIST, (Collection<?>) value, depth);
+        } else if (type == HashMap.class) {
+            writeMap(out, HASH_MAP, (Map<?, ?>) value, depth);
+        } else if (type == LinkedHashMap.class) {
+            writeMap(out, LINKED_HASH_MAP, (Map<?, ?>) value, depth);
+        } else if (type == IMMUTABLE_MAP_1 || type == IMMUTABLE_MAP_N) {
+            writeMap(out, IMMUTABLE_MAP, (Map<?, ?>) value, depth);
+        } else if (type == HashSet.class) {
+            writeCollection(out, HASH_SET, (Collection<?>) value, depth);
+        } else if (type == LinkedHashSet.class) {
+            writeCollection(out, LINKED_HASH_SET, (Collection<?>) value, depth);
+        } else if (type == IMMUTABLE_SET_12 || type == IMMUTABLE_SET_N) {
+            writeCollection(out, IMMUTABLE_SET, (Collection<?>) value, depth);
+        } else if (value instanceof Enum<?> e) {
+            out.writeByte(ENUM);
+            out.writeClass(e.getDeclaringClass());
+            out.writeString(e.name());
+        } else if (type.isRecord()) {
+            out.writeByte(RECORD);
+            out.writeClass(type);
+            RecordCodec codec = recordCodec(type);
+            for (Method accessor : codec.accessors) {
+                write(out, accessor.invoke(value), depth + 1);
+            }
+        } else if (type == UUID.class) {
+            UUID uuid = (UUID) value;
+            out.writeByte(UUID_TYPE);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (type == BigInteger.class) {
+            byte[] bytes = ((BigInteger) value).toByteArray();
+            out.writeByte(BIG_INTEGER);
+            out.writeVarLong(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (type == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal) value;
+            byte[] bytes = decimal.unscaledValue().toByteArray();
+            out.writeByte(BIG_DECIMAL);
+            out.writeVarLong(zigZag(decimal.scale()));
+            out.writeVarLong(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (type == Instant.class) {
+            Instant instant = (Instant) value;
+            out.writeByte(INSTANT);
+            out.writeVarLong(zigZag(instant.getEpochSecond()));
+            out.writeVarLong(instant.getNano());
+        } else if (type == LocalDate.class) {
+            out.writeByte(LOCAL_DATE);
+            out.writeVarLong(zigZag(((LocalDate) value).toEpochDay()));
+        } else if (type == LocalDateTime.class) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeVarLong(zigZag(dateTime.toLocalDate().toEpochDay()));
+            out.writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+        } else if (type == Duration.class) {
+            Duration duration = (Duration) value;
+            out.writeByte(DURATION);
+            out.writeVarLong(zigZag(duration.getSeconds()));
+            out.writeVarLong(duration.getNano());
+        } else {
+            byte[] bytes = JavaSerializer.INSTANCE.serialize(value);
+            out.writeByte(JAVA);
+            out.writeVarLong(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private void writeCollection(Output out, byte tag, Collection<?> values, int depth) throws Exception {
+        out.writeByte(tag);
+        out.writeVarLong(values.size());
+        for (Object element : values) {
+            write(out, element, depth + 1);
+        }
+    }
+
+    private void writeMap(Output out, byte tag, Map<?, ?> values, int depth) throws Exception {
+        out.writeByte(tag);
+        out.writeVarLong(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            write(out, entry.getKey(), depth + 1);
+            write(out, entry.getValue(), depth + 1);
+        }
+    }
+
+    private Object read(Input in, int depth) throws Exception {
+        if (depth > MAX_DEPTH) {
+            throw new CacheException("Failed to deserialize object: graph is too deep");
+        }
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readString();
+            case INT:
+                return (int) unZigZag(in.readVarLong());
+            case LONG:
+                return unZigZag(in.readVarLong());
+            case DOUBLE:
+                return Double.longBitsToDouble(in.readLong());
+            case FLOAT:
+                return Float.intBitsToFloat(in.readInt());
+            case SHORT:
+                return (short) unZigZag(in.readVarLong());
+            case BYTE:
+                return in.readByte();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case CHAR:
+                return (char) in.readVarLong();
+            case BYTES:
+                return in.readBytes(in.readLength());
+            case INT_ARRAY: {
+                int[] ints = new int[in.readLength()];
+                for (int i = 0; i < ints.length; i++) ints[i] = (int) unZigZag(in.readVarLong());
+                return ints;
+            }
+            case LONG_ARRAY: {
+                long[] longs = new long[in.readLength()];
+                for (int i = 0; i < longs.length; i++) longs[i] = unZigZag(in.readVarLong());
+                return longs;
+            }
+            case ARRAY_LIST:
+                return readElements(in, new ArrayList<>(), depth);
+            case IMMUTABLE_LIST:
+                // Stream.toList() produit aussi cette classe, éléments null compris
+                return Collections.unmodifiableList(readElements(in, new ArrayList<>(), depth));
+            case HASH_SET:
+                return readElements(in, new HashSet<>(), depth);
+            case LINKED_HASH_SET:
+                return readElements(in, new LinkedHashSet<>(), depth);
+            case IMMUTABLE_SET:
+                return Set.copyOf(readElements(in, new ArrayList<>(), depth));
+            case HASH_MAP:
+                return readEntries(in, new HashMap<>(), depth);
+            case LINKED_HASH_MAP:
+                return readEntries(in, new LinkedHashMap<>(), depth);
+            case IMMUTABLE_MAP:
+                return Map.copyOf(readEntries(in, new HashMap<>(), depth));
+            case ENUM:
+                return readEnum(in);
+            case RECORD: {
+                RecordCodec codec = recordCodec(in.readClass(this));
+                Object[] components = new Object[codec.accessors.length];
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = read(in, depth + 1);
+                }
+                return codec.constructor.newInstance(components);
+            }
+            case UUID_TYPE:
+                return new UUID(in.readLong(), in.readLong());
+            case BIG_INTEGER:
+                return new BigInteger(in.readBytes(in.readLength()));
+            case BIG_DECIMAL: {
+                int scale = (int) unZigZag(in.readVarLong());
+                return new BigDecimal(new BigInteger(in.readBytes(in.readLength())), scale);
+            }
+            case INSTANT:
+                return Instant.ofEpochSecond(unZigZag(in.readVarLong()), in.readVarLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(unZigZag(in.readVarLong()));
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(unZigZag(in.readVarLong())),
+                        java.time.LocalTime.ofNanoOfDay(in.readVarLong()));
+            case DURATION:
+                return Duration.ofSeconds(unZigZag(in.readVarLong()), in.readVarLong());
+            case JAVA: {
+                int length = in.readLength();
+                int offset = in.skip(length);
+                return JavaSerializer.INSTANCE.deserialize(in.data, offset, length);
+            }
+            default:
+                throw new CacheException("Failed to deserialize object: unknown type tag " + tag);
+        }
+    }
+
+    private <C extends Collection<Object>> C readElements(Input in, C target, int depth) throws Exception {
+        int size = in.readLength();
+        for (int i = 0; i < size; i++) {
+            target.add(read(in, depth + 1));
+        }
+        return target;
+    }
+
+    private <M extends Map<Object, Object>> M readEntries(Input in, M target, int depth) throws Exception {
+        int size = in.readLength();
+        for (int i = 0; i < size; i++) {
+            Object key = read(in, depth + 1);
+            target.put(key, read(in, depth + 1));
+        }
+        return target;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum(Input in) {
+        Class enumType = in.readClass(this);
+        return Enum.valueOf(enumType, in.readString());
+    }
+
+    private Class<?> resolve(String name) {
+        // Par chargeur : deux applications d'un même conteneur ne partagent pas leurs classes
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        ClassLoader loader = contextLoader != null ? contextLoader : BinarySerializer.class.getClassLoader();
+        return classes.computeIfAbsent(new ClassKey(loader, name), key -> {
+            try {
+                return Class.forName(key.name(), false, key.loader());
+            } catch (ClassNotFoundException e) {
+                throw new CacheException("Failed to deserialize object: unknown class " + key.name(), e);
+            }
+        });
+    }
+
+    private RecordCodec recordCodec(Class<?> type) {
+        return recordCodecs.computeIfAbsent(type, RecordCodec::new);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private record ClassKey(ClassLoader loader, String name) {
+    }
+
+    private static final class RecordCodec {
+        private final Method[] accessors;
+        private final Constructor<?> constructor;
+
+        RecordCodec(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            this.accessors = new Method[components.length];
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = components[i].getAccessor();
+                accessors[i].setAccessible(true);
+                parameterTypes[i] = components[i].getType();
+            }
+            try {
+                this.constructor = type.getDeclaredConstructor(parameterTypes);
+                this.constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new CacheException("No canonical constructor for record " + type.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Growable write buffer, reused by its owning thread. Class names are written once per
+     * payload and referenced by index afterwards.
+     */
+    private static final class Output {
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int position;
+        private final Map<Class<?>, Integer> classIds = new HashMap<>();
+
+        void reset() {
+            position = 0;
+        }
+
+        void release() {
+            classIds.clear();
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int extra) {
+            int required = position + extra;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+            }
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+
+        void writeInt(int value) {
+            ensure(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            int length = value.length();
+            boolean ascii = true;
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) >= 0x80) {
+                    ascii = false;
+                    break;
+                }
+            }
+            if (ascii) {
+                writeVarLong(length);
+                ensure(length);
+                for (int i = 0; i < length; i++) {
+                    buffer[position++] = (byte) value.charAt(i);
+                }
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length);
+                writeBytes(bytes, 0, bytes.length);
+            }
+        }
+
+        void writeClass(Class<?> type) {
+            Integer id = classIds.get(type);
+            if (id != null) {
+                writeVarLong(id);
+                return;
+            }
+            classIds.put(type, classIds.size() + 1);
+            writeVarLong(0);
+            writeString(type.getName());
+        }
+    }
+
+    private static final class Input {
+        private final byte[] data;
+        private int position;
+        private List<Class<?>> classes;
+
+        Input(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        byte readByte() {
+            if (position >= data.length) {
+                throw new CacheException("Failed to deserialize object: truncated payload");
+            }
+            return data[position++];
+        }
+
+        int readInt() {
+            return ((readByte() & 0xFF) << 24) | ((readByte() & 0xFF) << 16)
+                    | ((readByte() & 0xFF) << 8) | (readByte() & 0xFF);
+        }
+
+        long readLong() {
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new CacheException("Failed to deserialize object: malformed varint");
+        }
+
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > data.length - position) {
+                throw new CacheException("Failed to deserialize object: invalid length " + length);
+            }
+            return (int) length;
+        }
+
+        int skip(int length) {
+            int offset = position;
+            position += length;
+            return offset;
+        }
+
+        byte[] readBytes(int length) {
+            int offset = skip(length);
+            return Arrays.copyOfRange(data, offset, offset + length);
+        }
+
+        String readString() {
+            int length = readLength();
+            return new String(data, skip(length), length, StandardCharsets.UTF_8);
+        }
+
+        Class<?> readClass(BinarySerializer serializer) {
+            int id = (int) readVarLong();
+            if (classes == null) {
+                classes = new ArrayList<>(4);
+            }
+            if (id == 0) {
+                Class<?> type = serializer.resolve(readString());
+                classes.add(type);
+                return type;
+            }
+            if (id > classes.size()) {
+                throw new CacheException("Failed to deserialize object: invalid class reference " + id);
+            }
+            return classes.get(id - 1);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.wizeops.wize4j.cache.serialization;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Plain {@code java.io} serialization; values must implement {@link java.io.Serializable}.
+ * Payloads written by {@link BinarySerializer} are also readable.
+ */
+@Slf4j
+public class JavaSerializer implements Serializer {
+    public static final JavaSerializer INSTANCE = new JavaSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) return null;
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(value);
+            oos.flush();
+            return baos.toByteArray();
+        } catch (IOException e) {
+            log.error("Error serializing object", e);
+            throw new CacheException("Failed to serialize object", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] data) {
+        if (data == null) return null;
+        // Écrit par un nœud configuré avec le format binaire
+        if (BinarySerializer.isBinaryPayload(data)) {
+            return BinarySerializer.INSTANCE.deserialize(data);
+        }
+        return deserialize(data, 0, data.length);
+    }
+
+    Object deserialize(byte[] data, int offset, int length) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data, offset, length))) {
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.error("Error deserializing object", e);
+            throw new CacheException("Failed to deserialize object", e);
+        }
+    }
+}
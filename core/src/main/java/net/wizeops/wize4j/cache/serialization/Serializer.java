@@ -0,0 +1,21 @@
+package net.wizeops.wize4j.cache.serialization;
+
+/**
+ * Converts cached values to bytes for remote providers, off-heap storage and compression.
+ * Implementations must be thread-safe.
+ */
+public interface Serializer {
+
+    byte[] serialize(Object value);
+
+    Object deserialize(byte[] data);
+
+    /**
+     * {@link JavaSerializer}, whose wire format is the one every node already reads. Caches
+     * opt in to {@link BinarySerializer} through the configuration; both read each other's
+     * payloads, so nodes on either format can share a remote cache during a rolling deploy.
+     */
+    static Serializer defaultSerializer() {
+        return JavaSerializer.INSTANCE;
+    }
+}
@@ -1,12 +1,10 @@
 package net.wizeops.wize4j.cache.utils;
 
 import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.compression.GzipCodec;
+import net.wizeops.wize4j.cache.serialization.Serializer;
 import org.aspectj.lang.ProceedingJoinPoint;
 
-import java.io.*;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-
 
 @Slf4j
 public class CacheUtil {
@@ -35,50 +33,52 @@ public class CacheUtil {
         }
     }
 
+    public static byte[] serialize(Object value) {
+        return Serializer.defaultSerializer().serialize(value);
+    }
+
+    public static Object deserialize(byte[] data) {
+        return Serializer.defaultSerializer().deserialize(data);
+    }
+
     public static byte[] compress(Object value) {
-        if (value == null) return null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             GZIPOutputStream gzos = new GZIPOutputStream(baos);
-             ObjectOutputStream oos = new ObjectOutputStream(gzos)) {
-
-            oos.writeObject(value);
-            oos.flush();
-            gzos.finish();
-            return baos.toByteArray();
-        } catch (IOException e) {
-            log.error("Error compressing object", e);
-            throw new RuntimeException("Failed to compress object", e);
-        }
+        return GzipCodec.INSTANCE.compress(serialize(value));
     }
 
     public static Object decompress(byte[] compressed) {
-        if (compressed == null) return null;
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(compressed);
-             GZIPInputStream gzis = new GZIPInputStream(bais);
-             ObjectInputStream ois = new ObjectInputStream(gzis)) {
-
-            return ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            log.error("Error decompressing object", e);
-            throw new RuntimeException("Failed to decompress object", e);
-        }
+        return deserialize(GzipCodec.INSTANCE.decompress(compressed));
     }
 
+    /**
+     * Approximate serialized size of {@code obj}, computed from its object graph without
+     * serializing it.
+     */
     public static long estimateObjectSize(Object obj) {
         if (obj == null) return 0;
 
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(obj);
-            oos.flush();
-            return baos.size();
-        } catch (IOException e) {
+            return ObjectSizeEstimator.estimate(obj);
+        } catch (RuntimeException e) {
             log.warn("Could not estimate object size accurately, using default estimation", e);
             return estimateSizeByClass(obj);
         }
     }
 
+    /**
+     * Approximate heap retained by {@code obj}, computed like {@link #estimateObjectSize(Object)}
+     * from a bounded walk of its object graph.
+     */
+    public static long estimateRetainedSize(Object obj) {
+        if (obj == null) return 0;
+
+        try {
+            return ObjectSizeEstimator.estimateRetained(obj);
+        } catch (RuntimeException e) {
+            log.warn("Could not estimate retained size accurately, using default estimation", e);
+            return estimateSizeByClass(obj);
+        }
+    }
+
     private static long estimateSizeByClass(Object obj) {
         if (obj instanceof String) {
             return 24 + ((String) obj).length() * 2L; // 24 bytes overhead + 2 bytes per char
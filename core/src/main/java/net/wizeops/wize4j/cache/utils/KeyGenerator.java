@@ -3,10 +3,18 @@ package net.wizeops.wize4j.cache.utils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Builds cache keys from {@code @Cacheable}/{@code @CacheEvict} key expressions. Each
+ * expression is compiled once per method into a {@link KeyTemplate}; later calls only render
+ * the arguments. See {@link KeyTemplate} for the expression syntax.
+ */
 public class KeyGenerator {
+    private static final Map<TemplateKey, KeyTemplate> TEMPLATES = new ConcurrentHashMap<>();
 
     public static String generateKey(ProceedingJoinPoint joinPoint, String keyPattern) {
         if (keyPattern == null || keyPattern.isEmpty()) {
@@ -15,33 +23,52 @@ public class KeyGenerator {
         return resolveKeyPattern(joinPoint, keyPattern);
     }
 
+    /**
+     * One key per element of the collection argument at {@code parameterIndex}, in iteration
+     * order: the expression is rendered with that parameter bound to each element in turn. An
+     * empty expression keys each element by its {@code toString()}.
+     */
+    public static String[] generateElementKeys(ProceedingJoinPoint joinPoint, String keyPattern,
+                                               int parameterIndex, Collection<?> elements) {
+        String[] keys = new String[elements.size()];
+        int i = 0;
+        if (keyPattern == null || keyPattern.isEmpty()) {
+            for (Object element : elements) {
+                keys[i++] = String.valueOf(element);
+            }
+            return keys;
+        }
+
+        KeyTemplate template = templateFor(joinPoint, keyPattern);
+        Object[] args = joinPoint.getArgs().clone();
+        for (Object element : elements) {
+            args[parameterIndex] = element;
+            keys[i++] = template.render(args);
+        }
+        return keys;
+    }
+
     static String generateDefaultKey(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getMethod().getName();
-        String args = Arrays.stream(joinPoint.getArgs())
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-        return String.format("%s(%s)", methodName, args);
+        return templateFor(joinPoint, "").render(joinPoint.getArgs());
     }
 
     private static String resolveKeyPattern(ProceedingJoinPoint joinPoint, String keyPattern) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getMethod().getName();
-        String result = keyPattern
-                .replace("#method", methodName);
-
-        Object[] args = joinPoint.getArgs();
-        String[] parameterNames = signature.getParameterNames();
+        return templateFor(joinPoint, keyPattern).render(joinPoint.getArgs());
+    }
 
-        for (int i = 0; i < parameterNames.length; i++) {
-            String paramName = parameterNames[i];
-            String value = args[i] != null ? args[i].toString() : "null";
-            result = result.replace("#" + paramName, value);
+    private static KeyTemplate templateFor(ProceedingJoinPoint joinPoint, String keyPattern) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        TemplateKey templateKey = new TemplateKey(method, keyPattern);
+        KeyTemplate template = TEMPLATES.get(templateKey);
+        if (template != null) {
+            return template;
         }
-
-        return result;
+        return TEMPLATES.computeIfAbsent(templateKey, key -> keyPattern.isEmpty()
+                ? KeyTemplate.defaultKey(method)
+                : KeyTemplate.compile(keyPattern, method.getName(), signature.getParameterNames()));
     }
 
-
+    private record TemplateKey(Method method, String pattern) {
+    }
 }
-
@@ -0,0 +1,257 @@
+package net.wizeops.wize4j.cache.utils;
+
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Key expression compiled once per method: literal text and argument references, rendered
+ * without re-parsing the expression.
+ * <p>
+ * {@code #method} is the method name and {@code #name} the argument with that parameter name.
+ * A reference may continue with properties, as in {@code #user.address.city}. Each property
+ * is read from a map entry, a getter ({@code getCity()}/{@code isCity()}), a record accessor
+ * or method ({@code city()}), or a field, in that order. A null anywhere along the path renders
+ * as {@code null}. {@code #tokens} that match no parameter are kept as written.
+ * <p>
+ * A suffix that is not a property of the value is literal text: {@code #id.json} renders as
+ * {@code 42.json}. Strings, numbers, booleans and characters have no properties here, so
+ * {@code #name.length} also renders as {@code <name>.length}.
+ */
+final class KeyTemplate {
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+    private static final int MAX_BUFFER_CAPACITY = 1024;
+
+    private final Segment[] segments;
+
+    private KeyTemplate(List<Segment> segments) {
+        this.segments = segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * Template for {@code methodName(arg0,arg1,...)}.
+     */
+    static KeyTemplate defaultKey(Method method) {
+        List<Segment> segments = new ArrayList<>();
+        segments.add(new Literal(method.getName() + "("));
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            if (i > 0) {
+                segments.add(new Literal(","));
+            }
+            segments.add(new Argument(i, new Property[0]));
+        }
+        segments.add(new Literal(")"));
+        return new KeyTemplate(segments);
+    }
+
+    static KeyTemplate compile(String pattern, String methodName, String[] parameterNames) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = pattern.charAt(i);
+            int end = c == '#' ? identifierEnd(pattern, i + 1) : i;
+            if (end == i || end == i + 1) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            String name = pattern.substring(i + 1, end);
+            int parameter = "method".equals(name) ? -1 : indexOf(parameterNames, name);
+            if (parameter < 0) {
+                // #method, ou jeton inconnu conservé tel quel
+                literal.append("method".equals(name) ? methodName : pattern.substring(i, end));
+                i = end;
+                continue;
+            }
+
+            List<Property> path = new ArrayList<>();
+            while (end < length && pattern.charAt(end) == '.') {
+                int propertyEnd = identifierEnd(pattern, end + 1);
+                if (propertyEnd == end + 1) {
+                    break;
+                }
+                path.add(new Property(pattern.substring(end + 1, propertyEnd)));
+                end = propertyEnd;
+            }
+
+            if (!literal.isEmpty()) {
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(new Argument(parameter, path.toArray(new Property[0])));
+            i = end;
+        }
+
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new KeyTemplate(segments);
+    }
+
+    String render(Object[] args) {
+        if (segments.length == 1 && segments[0] instanceof Literal literal) {
+            return literal.text;
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        for (Segment segment : segments) {
+            segment.appendTo(buffer, args);
+        }
+        String key = buffer.toString();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            // Ne pas garder indéfiniment un tampon agrandi par une clé exceptionnelle
+            BUFFER.remove();
+        }
+        return key;
+    }
+
+    private static int identifierEnd(String pattern, int start) {
+        int i = start;
+        if (i < pattern.length() && Character.isJavaIdentifierStart(pattern.charAt(i))) {
+            i++;
+            while (i < pattern.length() && Character.isJavaIdentifierPart(pattern.charAt(i))) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (name.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private interface Segment {
+        void appendTo(StringBuilder buffer, Object[] args);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public void appendTo(StringBuilder buffer, Object[] args) {
+            buffer.append(text);
+        }
+    }
+
+    private record Argument(int index, Property[] path) implements Segment {
+        @Override
+        public void appendTo(StringBuilder buffer, Object[] args) {
+            Object value = args != null && index < args.length ? args[index] : null;
+            for (int i = 0; i < path.length && value != null; i++) {
+                Object next = path[i].read(value);
+                if (next == Property.UNRESOLVED) {
+                    // Suffixe qui n'est pas une propriété (#id.json) : rendu comme texte
+                    buffer.append(value);
+                    for (int j = i; j < path.length; j++) {
+                        buffer.append('.').append(path[j].name);
+                    }
+                    return;
+                }
+                value = next;
+            }
+            buffer.append(value);
+        }
+    }
+
+    /**
+     * One step of a property path. The accessor of the last class seen is kept, since a given
+     * key expression almost always receives the same argument type.
+     */
+    private static final class Property {
+        static final Object UNRESOLVED = new Object();
+
+        private final String name;
+        private volatile Accessor accessor;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        Object read(Object target) {
+            Accessor current = accessor;
+            if (current == null || current.type != target.getClass()) {
+                current = Accessor.resolve(target.getClass(), name);
+                accessor = current;
+            }
+            return current.read(target);
+        }
+    }
+
+    private record Accessor(Class<?> type, String name, Method method, Field field, boolean mapEntry) {
+
+        static Accessor resolve(Class<?> type, String name) {
+            if (Map.class.isAssignableFrom(type)) {
+                return new Accessor(type, name, null, null, true);
+            }
+            if (CharSequence.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type)
+                    || type == Boolean.class || type == Character.class) {
+                return new Accessor(type, name, null, null, false);
+            }
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String candidate : new String[]{"get" + capitalized, "is" + capitalized, name}) {
+                Method method = findMethod(type, candidate);
+                if (method != null) {
+                    return new Accessor(type, name, method, null, false);
+                }
+            }
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                try {
+                    Field field = c.getDeclaredField(name);
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        return new Accessor(type, name, null, field, false);
+                    }
+                } catch (NoSuchFieldException | RuntimeException e) {
+                    // champ absent ou inaccessible : essayer la superclasse
+                }
+            }
+            return new Accessor(type, name, null, null, false);
+        }
+
+        private static Method findMethod(Class<?> type, String name) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+                    return null;
+                }
+                // Classe non publique (record imbriqué privé...) : accès réflexif explicite
+                if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    method.setAccessible(true);
+                }
+                return method;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        Object read(Object target) {
+            try {
+                if (method != null) {
+                    return method.invoke(target);
+                }
+                if (field != null) {
+                    return field.get(target);
+                }
+                return mapEntry ? ((Map<?, ?>) target).get(name) : Property.UNRESOLVED;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new CacheException("Cannot read property '" + name + "' of " + type.getName(), e);
+            }
+        }
+    }
+}
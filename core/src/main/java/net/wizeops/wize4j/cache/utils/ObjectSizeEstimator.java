@@ -0,0 +1,247 @@
+package net.wizeops.wize4j.cache.utils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Approximates the serialized size of a value by walking its object graph, without
+ * serializing it, or the heap it retains ({@link #estimateRetained(Object)}).
+ * <p>
+ * Large collections and arrays are sampled and extrapolated. The walk visits a bounded number
+ * of nodes, so the cost is independent of the value's size. The result is meant for threshold
+ * decisions such as compression and for weighing entries, not exact accounting.
+ */
+final class ObjectSizeEstimator {
+    private static final int SAMPLE_SIZE = 16;
+    private static final int MAX_NODES = 256;
+    private static final int MAX_DEPTH = 8;
+    private static final long REFERENCE_SIZE = 16;
+    private static final Field[] OPAQUE = new Field[0];
+
+    // Disposition mémoire d'une JVM 64 bits avec références compressées
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int HEAP_REFERENCE = 4;
+    private static final int STRING_SIZE = 24;
+    private static final int COLLECTION_SIZE = 40;
+    private static final int COLLECTION_ELEMENT_OVERHEAD = 8;
+    private static final int MAP_SIZE = 48;
+    private static final int MAP_ENTRY_OVERHEAD = 40;
+
+    // Tailles superficielles des types valeur du JDK, dont les champs ne sont pas parcourus
+    private static final int BIG_INTEGER_SIZE = 40;
+    private static final int BIG_DECIMAL_SIZE = 40;
+    private static final int LOCAL_DATE_SIZE = 24;
+    private static final int LOCAL_TIME_SIZE = 24;
+    private static final int LOCAL_DATE_TIME_SIZE = 24 + LOCAL_DATE_SIZE + LOCAL_TIME_SIZE;
+    private static final int INSTANT_SIZE = 24;
+    private static final int UUID_SIZE = 32;
+    private static final int OPTIONAL_SIZE = 16;
+
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+
+    private final boolean heap;
+    private int remainingNodes = MAX_NODES;
+
+    private ObjectSizeEstimator(boolean heap) {
+        this.heap = heap;
+    }
+
+    static long estimate(Object value) {
+        return new ObjectSizeEstimator(false).sizeOf(value, 0);
+    }
+
+    /**
+     * Heap retained by {@code value}, counting shared objects once per reference and
+     * Latin-1 strings. Common JDK value types (big numbers, {@code java.time} values,
+     * {@code UUID}, {@code Optional}) are weighed from their known layout; other {@code java.*}
+     * objects count as one reference.
+     */
+    static long estimateRetained(Object value) {
+        return new ObjectSizeEstimator(true).sizeOf(value, 0);
+    }
+
+    private long sizeOf(Object value, int depth) {
+        if (value == null) {
+            return heap ? 0 : 1;
+        }
+        if (value instanceof String s) {
+            return heap ? STRING_SIZE + align(ARRAY_HEADER + s.length()) : 2 + s.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            if (heap && value instanceof BigDecimal decimal) {
+                // La valeur non mise à l'échelle n'est un BigInteger qu'au-delà de 18 chiffres
+                return BIG_DECIMAL_SIZE + (decimal.precision() > 18 ? bigIntegerSize(decimal.unscaledValue()) : 0);
+            }
+            if (heap && value instanceof BigInteger integer) {
+                return bigIntegerSize(integer);
+            }
+            return heap ? (value instanceof Long || value instanceof Double ? 24 : 16) : 9;
+        }
+        if (value instanceof byte[] bytes) {
+            return heap ? align(ARRAY_HEADER + bytes.length) : 5 + bytes.length;
+        }
+        if (value instanceof Enum<?> e) {
+            // Constante partagée : rien n'est retenu par l'entrée
+            return heap ? 0 : 4 + e.name().length();
+        }
+        if (depth >= MAX_DEPTH || --remainingNodes < 0) {
+            return REFERENCE_SIZE;
+        }
+
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return (heap ? 0 : 5) + arraySize(value, type.getComponentType(), depth);
+        }
+        if (value instanceof Collection<?> collection) {
+            long overhead = heap ? COLLECTION_SIZE + (long) collection.size() * COLLECTION_ELEMENT_OVERHEAD : 5;
+            return overhead + sampled(collection.iterator(), collection.size(), depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long overhead = heap ? MAP_SIZE + (long) map.size() * MAP_ENTRY_OVERHEAD : 5;
+            return overhead + sampledEntries(map, depth);
+        }
+
+        Field[] fields = FIELDS.computeIfAbsent(type, ObjectSizeEstimator::fieldsOf);
+        if (fields == OPAQUE) {
+            return heap ? jdkValueSize(value, depth) : REFERENCE_SIZE;
+        }
+        long shallow = heap ? OBJECT_HEADER : 4;
+        long referenced = 0;
+        for (Field field : fields) {
+            if (field.getType().isPrimitive()) {
+                shallow += primitiveSize(field.getType());
+                continue;
+            }
+            shallow += heap ? HEAP_REFERENCE : 0;
+            try {
+                referenced += sizeOf(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                referenced += REFERENCE_SIZE;
+            }
+        }
+        return (heap ? align(shallow) : shallow) + referenced;
+    }
+
+    private long jdkValueSize(Object value, int depth) {
+        if (value instanceof LocalDateTime) {
+            return LOCAL_DATE_TIME_SIZE;
+        }
+        if (value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+            // Le fuseau et le décalage sont des instances partagées
+            return 24 + LOCAL_DATE_TIME_SIZE;
+        }
+        if (value instanceof LocalDate) {
+            return LOCAL_DATE_SIZE;
+        }
+        if (value instanceof LocalTime) {
+            return LOCAL_TIME_SIZE;
+        }
+        if (value instanceof Instant || value instanceof Duration || value instanceof Date) {
+            return INSTANT_SIZE;
+        }
+        if (value instanceof UUID) {
+            return UUID_SIZE;
+        }
+        if (value instanceof Optional<?> optional) {
+            // Optional.empty() est partagé
+            return optional.isPresent() ? OPTIONAL_SIZE + sizeOf(optional.get(), depth + 1) : 0;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    private static long bigIntegerSize(BigInteger integer) {
+        int words = (integer.bitLength() + 31) >>> 5;
+        return BIG_INTEGER_SIZE + align(ARRAY_HEADER + (long) words * 4);
+    }
+
+    private long arraySize(Object array, Class<?> componentType, int depth) {
+        int length = Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            long data = (long) length * primitiveSize(componentType);
+            return heap ? align(ARRAY_HEADER + data) : data;
+        }
+        Object[] elements = (Object[]) array;
+        int sampled = Math.min(length, SAMPLE_SIZE);
+        long total = 0;
+        for (int i = 0; i < sampled; i++) {
+            total += sizeOf(elements[i], depth + 1);
+        }
+        long references = heap ? align(ARRAY_HEADER + (long) length * HEAP_REFERENCE) : 0;
+        return references + extrapolate(total, sampled, length);
+    }
+
+    private long sampled(Iterator<?> iterator, int size, int depth) {
+        long total = 0;
+        int sampled = 0;
+        while (sampled < SAMPLE_SIZE && iterator.hasNext()) {
+            total += sizeOf(iterator.next(), depth + 1);
+            sampled++;
+        }
+        return extrapolate(total, sampled, size);
+    }
+
+    private long sampledEntries(Map<?, ?> map, int depth) {
+        long total = 0;
+        int sampled = 0;
+        for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator(); sampled < SAMPLE_SIZE && it.hasNext(); sampled++) {
+            Map.Entry<?, ?> entry = it.next();
+            total += sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+        }
+        return extrapolate(total, sampled, map.size());
+    }
+
+    private static long extrapolate(long sampledTotal, int sampled, int size) {
+        return sampled == 0 ? 0 : sampledTotal * size / sampled;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static long primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) return 8;
+        if (type == int.class || type == float.class) return 4;
+        if (type == short.class || type == char.class) return 2;
+        return 1;
+    }
+
+    private static Field[] fieldsOf(Class<?> type) {
+        if (type.getName().startsWith("java.")) {
+            return OPAQUE;
+        }
+        List<Field> fields = new ArrayList<>();
+        try {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            return OPAQUE;
+        }
+        return fields.toArray(new Field[0]);
+    }
+}
@@ -0,0 +1,222 @@
+package net.wizeops.wize4j.cache.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+    // Non aligné sur une graduation, comme une horloge réelle
+    private static final long START = 1_234_567L;
+    private static final long TICK = 1L << 10;
+
+    @Test
+    void scheduledKeyIsReturnedOnceDue() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule("a", START + 5_000);
+
+        assertEquals(List.of(), wheel.advance(START + 4_000, Integer.MAX_VALUE));
+        assertEquals(List.of("a"), wheel.advance(START + 6_000, Integer.MAX_VALUE));
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(START + 60_000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void keyDueLaterInTheCurrentTickIsKeptUntilItsTime() {
+        long start = 10 * TICK;
+        TimerWheel wheel = new TimerWheel(start);
+        wheel.schedule("a", start + 900);
+
+        assertEquals(List.of(), wheel.advance(start + 500, Integer.MAX_VALUE));
+        assertEquals(List.of("a"), wheel.advance(start + TICK, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void expiresFromTheFinestWheel() {
+        // < 2^16 ms
+        assertExpiresAtFirstAdvancePastDeadline(5_000, TICK);
+    }
+
+    @Test
+    void cascadesFromTheMinuteWheel() {
+        // [2^16, 2^22) ms
+        assertExpiresAtFirstAdvancePastDeadline(100_000, TICK);
+    }
+
+    @Test
+    void cascadesFromTheHourWheel() {
+        // [2^22, 2^27) ms
+        assertExpiresAtFirstAdvancePastDeadline(10_000_000, 1L << 16);
+    }
+
+    @Test
+    void cascadesFromTheDayWheel() {
+        // [2^27, 2^29) ms
+        assertExpiresAtFirstAdvancePastDeadline(200_000_000, 1L << 20);
+    }
+
+    @Test
+    void cascadesFromTheOverflowBucket() {
+        // >= 2^29 ms, y compris au-delà d'un tour complet du dernier niveau
+        assertExpiresAtFirstAdvancePastDeadline(1_000_000_000, 1L << 20);
+        assertExpiresAtFirstAdvancePastDeadline(3L << 30, 1L << 22);
+    }
+
+    @Test
+    void expiresAcrossLevelsInASingleLargeAdvance() {
+        TimerWheel wheel = new TimerWheel(START);
+        long[] delays = {5_000, 100_000, 10_000_000, 200_000_000, 1_000_000_000};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule("k" + i, START + delays[i]);
+        }
+
+        List<String> expired = wheel.advance(START + 2_000_000_000L, Integer.MAX_VALUE);
+
+        assertEquals(Set.of("k0", "k1", "k2", "k3", "k4"), new HashSet<>(expired));
+        assertEquals(delays.length, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduleMovesTheDeadline() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule("later", START + 5_000);
+        wheel.schedule("later", START + 100_000);
+        wheel.schedule("sooner", START + 100_000);
+        wheel.schedule("sooner", START + 5_000);
+        assertEquals(2, wheel.size());
+
+        assertEquals(List.of("sooner"), wheel.advance(START + 10_000, Integer.MAX_VALUE));
+        assertEquals(List.of(), wheel.advance(START + 90_000, Integer.MAX_VALUE));
+        assertEquals(List.of("later"), wheel.advance(START + 101_000, Integer.MAX_VALUE));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduleAfterExpiryAddsTheKeyAgain() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule("a", START + 2_000);
+        assertEquals(List.of("a"), wheel.advance(START + 3_000, Integer.MAX_VALUE));
+
+        wheel.schedule("a", START + 8_000);
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("a"), wheel.advance(START + 9_000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void descheduledKeyNeverExpires() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule("a", START + 5_000);
+        wheel.schedule("b", START + 5_000);
+        wheel.deschedule("a");
+        wheel.deschedule("unknown");
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("b"), wheel.advance(START + 10_000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void clearForgetsEveryKey() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule("a", START + 5_000);
+        wheel.schedule("b", START + 10_000_000);
+
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(START + 20_000_000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void budgetedAdvanceResumesWhereItStopped() {
+        TimerWheel wheel = new TimerWheel(START);
+        Set<String> scheduled = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            // Réparties sur plusieurs seaux de plusieurs niveaux
+            String key = "k" + i;
+            wheel.schedule(key, START + 1_000 + i * 1_500L);
+            scheduled.add(key);
+        }
+        long now = START + 200_000;
+
+        List<String> expired = new ArrayList<>();
+        List<Integer> batches = new ArrayList<>();
+        for (int call = 0; call < 10; call++) {
+            List<String> batch = wheel.advance(now, 30);
+            assertTrue(batch.size() <= 30, "batch over budget: " + batch.size());
+            batches.add(batch.size());
+            expired.addAll(batch);
+        }
+
+        assertEquals(List.of(30, 30, 30, 10, 0, 0, 0, 0, 0, 0), batches);
+        assertEquals(scheduled, new HashSet<>(expired));
+        assertEquals(100, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void budgetedAdvanceKeepsEntriesThatAreNotDue() {
+        TimerWheel wheel = new TimerWheel(START);
+        for (int i = 0; i < 10; i++) {
+            wheel.schedule("due" + i, START + 2_000);
+        }
+        wheel.schedule("later", START + 100_000);
+
+        List<String> expired = new ArrayList<>(wheel.advance(START + 5_000, 4));
+        expired.addAll(wheel.advance(START + 5_000, 4));
+        expired.addAll(wheel.advance(START + 5_000, 4));
+
+        assertEquals(10, expired.size());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("later"), wheel.advance(START + 101_000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void budgetedAdvanceKeepsEntriesRelinkedIntoTheBucketItStopsIn() {
+        long start = 10 * TICK;
+        TimerWheel wheel = new TimerWheel(start);
+        // Même seau : "notYet" y est remis avant que le budget n'interrompe le parcours
+        wheel.schedule("notYet", start + TICK + 900);
+        for (int i = 0; i < 5; i++) {
+            wheel.schedule("due" + i, start + TICK + 100);
+        }
+
+        List<String> expired = new ArrayList<>();
+        for (int call = 0; call < 5; call++) {
+            expired.addAll(wheel.advance(start + TICK + 500, 2));
+        }
+
+        assertEquals(Set.of("due0", "due1", "due2", "due3", "due4"), new HashSet<>(expired));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("notYet"), wheel.advance(start + 2 * TICK, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Advances by {@code step} from {@link #START} and checks the key comes out at the first
+     * advance at or past its deadline, exactly once.
+     */
+    private static void assertExpiresAtFirstAdvancePastDeadline(long delay, long step) {
+        TimerWheel wheel = new TimerWheel(START);
+        long deadline = START + delay;
+        wheel.schedule("k", deadline);
+
+        long expected = START + (delay + step - 1) / step * step;
+        long expiredAt = -1;
+        for (long now = START + step; now <= expected + 4 * step; now += step) {
+            List<String> due = wheel.advance(now, Integer.MAX_VALUE);
+            if (!due.isEmpty()) {
+                assertEquals(List.of("k"), due);
+                assertEquals(-1, expiredAt, "returned twice");
+                expiredAt = now;
+            }
+        }
+        assertEquals(expected, expiredAt);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,238 @@
+package net.wizeops.wize4j.cache.providers.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapSegmentTest {
+    private static final long NEVER = Long.MAX_VALUE;
+    // Toutes les clés de ces tests tombent dans le même seau de l'index
+    private static final int COLLIDING_HASH = 42;
+
+    @Test
+    void storesReadsAndRemoves() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+
+        assertEquals(0, segment.put(key("a"), hash("a"), value("1"), NEVER, (byte) 0));
+
+        OffHeapSegment.Value stored = segment.get(key("a"), hash("a"), 0);
+        assertArrayEquals(value("1"), stored.data());
+        assertFalse(stored.isCompressed());
+        assertEquals(1, segment.size());
+
+        assertTrue(segment.remove(key("a"), hash("a")));
+        assertFalse(segment.remove(key("a"), hash("a")));
+        assertNull(segment.get(key("a"), hash("a"), 0));
+        assertEquals(0, segment.size());
+    }
+
+    @Test
+    void keepsTheFlags() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        segment.put(key("a"), hash("a"), value("1"), NEVER, OffHeapSegment.FLAG_COMPRESSED);
+
+        assertTrue(segment.get(key("a"), hash("a"), 0).isCompressed());
+    }
+
+    @Test
+    void replacingAKeyKeepsOneEntry() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        segment.put(key("a"), hash("a"), value("old"), NEVER, (byte) 0);
+        segment.put(key("a"), hash("a"), value("new"), NEVER, (byte) 0);
+
+        assertEquals(1, segment.size());
+        assertArrayEquals(value("new"), segment.get(key("a"), hash("a"), 0).data());
+    }
+
+    @Test
+    void tellsCollidingKeysApart() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        for (int i = 0; i < 20; i++) {
+            segment.put(key("k" + i), COLLIDING_HASH, value("v" + i), NEVER, (byte) 0);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(value("v" + i), segment.get(key("k" + i), COLLIDING_HASH, 0).data());
+        }
+        assertNull(segment.get(key("missing"), COLLIDING_HASH, 0));
+    }
+
+    @Test
+    void removalInAProbeChainKeepsTheRestReachable() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        for (int i = 0; i < 20; i++) {
+            segment.put(key("k" + i), COLLIDING_HASH, value("v" + i), NEVER, (byte) 0);
+        }
+
+        // Suppressions au milieu de la chaîne : les slots suivants sont décalés, sans pierre tombale
+        for (int i = 0; i < 20; i += 3) {
+            assertTrue(segment.remove(key("k" + i), COLLIDING_HASH));
+        }
+        for (int i = 0; i < 20; i++) {
+            OffHeapSegment.Value stored = segment.get(key("k" + i), COLLIDING_HASH, 0);
+            if (i % 3 == 0) {
+                assertNull(stored);
+            } else {
+                assertArrayEquals(value("v" + i), stored.data());
+            }
+        }
+
+        // Les slots libérés sont réutilisés
+        for (int i = 0; i < 20; i += 3) {
+            segment.put(key("k" + i), COLLIDING_HASH, value("again" + i), NEVER, (byte) 0);
+        }
+        assertEquals(20, segment.size());
+        for (int i = 0; i < 20; i += 3) {
+            assertArrayEquals(value("again" + i), segment.get(key("k" + i), COLLIDING_HASH, 0).data());
+        }
+    }
+
+    @Test
+    void indexGrowsUpToItsLimit() {
+        OffHeapSegment segment = new OffHeapSegment(4, 1 << 20, 4 * OffHeapSegment.INITIAL_SLOTS);
+        int count = 2 * OffHeapSegment.INITIAL_SLOTS;
+        for (int i = 0; i < count; i++) {
+            assertEquals(0, segment.put(key("k" + i), hash("k" + i), value("v"), NEVER, (byte) 0));
+        }
+
+        assertEquals(count, segment.size());
+        for (int i = 0; i < count; i++) {
+            assertArrayEquals(value("v"), segment.get(key("k" + i), hash("k" + i), 0).data());
+        }
+    }
+
+    @Test
+    void fullIndexRecyclesTheOldestSlabs() {
+        int maxSlots = OffHeapSegment.INITIAL_SLOTS;
+        int maxEntries = (int) (maxSlots * 0.75);
+        OffHeapSegment segment = new OffHeapSegment(8, 4096, maxSlots);
+
+        int evicted = 0;
+        int count = 4 * maxEntries;
+        for (int i = 0; i < count; i++) {
+            evicted += segment.put(key("k" + i), hash("k" + i), value("v"), NEVER, (byte) 0);
+            assertTrue(segment.size() <= maxEntries, "index over its limit: " + segment.size());
+        }
+
+        assertEquals(count - segment.size(), evicted);
+        assertNull(segment.get(key("k0"), hash("k0"), 0));
+        String newest = "k" + (count - 1);
+        assertArrayEquals(value("v"), segment.get(key(newest), hash(newest), 0).data());
+    }
+
+    @Test
+    void exhaustedSlabsEvictTheOldestRecords() {
+        // Enregistrement : 21 octets d'en-tête + clé + valeur, environ 8 par slab
+        OffHeapSegment segment = new OffHeapSegment(2, 256, OffHeapSegment.INITIAL_SLOTS);
+
+        int evicted = 0;
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            evicted += segment.put(key(String.format("k%02d", i)), hash(String.format("k%02d", i)),
+                    new byte[5], NEVER, (byte) 0);
+        }
+
+        assertTrue(segment.size() > 0 && segment.size() <= 2 * 256 / 29);
+        assertEquals(count - segment.size(), evicted);
+        assertNull(segment.get(key("k00"), hash("k00"), 0));
+        assertArrayEquals(new byte[5], segment.get(key("k99"), hash("k99"), 0).data());
+    }
+
+    @Test
+    void rejectsRecordsLargerThanASlab() {
+        OffHeapSegment segment = new OffHeapSegment(2, 256, OffHeapSegment.INITIAL_SLOTS);
+
+        assertTrue(segment.fits(10, 256 - OffHeapSegment.HEADER_SIZE - 10));
+        assertFalse(segment.fits(10, 256 - OffHeapSegment.HEADER_SIZE - 9));
+    }
+
+    @Test
+    void expiredEntryIsReportedAndRemovedOnRead() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        segment.put(key("a"), hash("a"), value("1"), 1_000, (byte) 0);
+
+        assertArrayEquals(value("1"), segment.get(key("a"), hash("a"), 999).data());
+        assertSame(OffHeapSegment.EXPIRED, segment.get(key("a"), hash("a"), 1_000));
+        assertNull(segment.get(key("a"), hash("a"), 1_000));
+        assertEquals(0, segment.size());
+    }
+
+    @Test
+    void sweepRemovesOnlyExpiredEntries() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        // Expirées et vivantes alternées dans une même chaîne de sondage
+        for (int i = 0; i < 30; i++) {
+            segment.put(key("c" + i), COLLIDING_HASH, value("v" + i), i % 2 == 0 ? 1_000 : NEVER, (byte) 0);
+        }
+        for (int i = 0; i < 30; i++) {
+            segment.put(key("k" + i), hash("k" + i), value("v" + i), i % 3 == 0 ? 1_000 : NEVER, (byte) 0);
+        }
+
+        assertEquals(0, segment.removeExpired(999));
+        assertEquals(15 + 10, segment.removeExpired(1_000));
+
+        assertEquals(15 + 20, segment.size());
+        for (int i = 1; i < 30; i += 2) {
+            assertArrayEquals(value("v" + i), segment.get(key("c" + i), COLLIDING_HASH, 2_000).data());
+        }
+        for (int i = 0; i < 30; i++) {
+            OffHeapSegment.Value stored = segment.get(key("k" + i), hash("k" + i), 2_000);
+            if (i % 3 == 0) {
+                assertNull(stored);
+            } else {
+                assertArrayEquals(value("v" + i), stored.data());
+            }
+        }
+    }
+
+    @Test
+    void sweepHandlesProbeChainsThatWrapAroundTheIndex() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        // Le seau d'origine est le dernier slot : la chaîne continue au début de l'index
+        int lastSlot = OffHeapSegment.INITIAL_SLOTS - 1;
+        for (int i = 0; i < 10; i++) {
+            segment.put(key("w" + i), lastSlot, value("v" + i), i < 5 ? 1_000 : NEVER, (byte) 0);
+        }
+
+        assertEquals(5, segment.removeExpired(1_000));
+
+        assertEquals(5, segment.size());
+        for (int i = 5; i < 10; i++) {
+            assertArrayEquals(value("v" + i), segment.get(key("w" + i), lastSlot, 2_000).data());
+        }
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        OffHeapSegment segment = new OffHeapSegment(4, 4096, OffHeapSegment.INITIAL_SLOTS);
+        for (int i = 0; i < 10; i++) {
+            segment.put(key("k" + i), hash("k" + i), value("v"), NEVER, (byte) 0);
+        }
+
+        assertEquals(10, segment.clear());
+
+        assertEquals(0, segment.size());
+        assertNull(segment.get(key("k0"), hash("k0"), 0));
+        segment.put(key("k0"), hash("k0"), value("again"), NEVER, (byte) 0);
+        assertArrayEquals(value("again"), segment.get(key("k0"), hash("k0"), 0).data());
+    }
+
+    private static byte[] key(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int hash(String key) {
+        return key.hashCode() * 0x9E3779B9;
+    }
+}
@@ -0,0 +1,14 @@
+package net.wizeops.wize4j.cache.api;
+
+public interface EhCacheOperations extends CacheProvider {
+
+    /**
+     * The underlying {@code org.ehcache.Cache}; values are stored wrapped with their TTL.
+     */
+    Object getNativeCache();
+
+    /**
+     * Whether entries are written to a disk tier that survives a restart.
+     */
+    boolean isPersistent();
+}
@@ -0,0 +1,189 @@
+package net.wizeops.wize4j.cache.providers.ehcache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.xml.XmlConfiguration;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One EhCache {@link CacheManager} per configuration file and disk store, shared by every
+ * cache provider that uses it.
+ * <p>
+ * A persistent disk store can only be opened by one manager at a time, so providers must
+ * share it. {@link #getInstance} counts references and each caller must {@link #release()}
+ * once; caches opened with {@link #openCache} are likewise counted per alias. The manager is
+ * closed, flushing the disk tier, when the last reference is released.
+ */
+@Slf4j
+public class EhCacheManagerHolder implements AutoCloseable {
+    private static final Map<StoreKey, EhCacheManagerHolder> INSTANCES = new HashMap<>();
+
+    private final StoreKey storeKey;
+    private final XmlConfiguration xmlConfiguration;
+    private final CacheManager cacheManager;
+    private final Map<String, Integer> cacheReferences = new HashMap<>();
+    private int references;
+
+    private EhCacheManagerHolder(StoreKey storeKey) {
+        this.storeKey = storeKey;
+        this.xmlConfiguration = loadXmlConfiguration(storeKey.configPath());
+        this.cacheManager = createCacheManager();
+    }
+
+    public static EhCacheManagerHolder getInstance(CacheConfiguration config) {
+        StoreKey key = new StoreKey(config.getEhcacheConfigPath(), resolveDiskStorePath(config));
+        synchronized (INSTANCES) {
+            EhCacheManagerHolder holder = INSTANCES.computeIfAbsent(key, EhCacheManagerHolder::new);
+            holder.references++;
+            return holder;
+        }
+    }
+
+    /**
+     * Root directory of the disk tier, or null when the configuration has no disk tier.
+     */
+    static Path resolveDiskStorePath(CacheConfiguration config) {
+        if (config.getDiskStorePath() != null && !config.getDiskStorePath().isEmpty()) {
+            return Paths.get(config.getDiskStorePath()).toAbsolutePath().normalize();
+        }
+        if (config.isDiskPersistence()) {
+            return Paths.get(System.getProperty("java.io.tmpdir"), "wize4j-ehcache").toAbsolutePath();
+        }
+        return null;
+    }
+
+    /**
+     * Builder from the XML {@code <cache-template>} named after the cache, falling back to the
+     * template named {@code default}; null without XML configuration or matching template.
+     */
+    CacheConfigurationBuilder<String, TimedValue> templateFor(String alias) {
+        if (xmlConfiguration == null) {
+            return null;
+        }
+        try {
+            CacheConfigurationBuilder<String, TimedValue> builder =
+                    xmlConfiguration.newCacheConfigurationBuilderFromTemplate(alias, String.class, TimedValue.class);
+            return builder != null ? builder
+                    : xmlConfiguration.newCacheConfigurationBuilderFromTemplate("default", String.class, TimedValue.class);
+        } catch (Exception e) {
+            log.error("Invalid EhCache template for cache: {}", alias, e);
+            throw new CacheException("Invalid EhCache template for cache: " + alias, e);
+        }
+    }
+
+    boolean hasDiskStore() {
+        return storeKey.diskStorePath() != null;
+    }
+
+    /**
+     * Returns the cache named {@code alias}, creating it from {@code configuration} if no other
+     * provider has it open.
+     */
+    synchronized Cache<String, TimedValue> openCache(String alias,
+            Supplier<org.ehcache.config.CacheConfiguration<String, TimedValue>> configuration) {
+        Cache<String, TimedValue> cache = cacheManager.getCache(alias, String.class, TimedValue.class);
+        if (cache == null) {
+            cache = cacheManager.createCache(alias, configuration.get());
+        }
+        cacheReferences.merge(alias, 1, Integer::sum);
+        return cache;
+    }
+
+    /**
+     * Closes the cache once no provider uses it; persisted entries are kept on disk.
+     */
+    synchronized void closeCache(String alias) {
+        Integer remaining = cacheReferences.computeIfPresent(alias, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            cacheManager.removeCache(alias);
+        }
+    }
+
+    /**
+     * Releases one reference; the manager is closed when none remain.
+     */
+    public void release() {
+        synchronized (INSTANCES) {
+            if (--references > 0) {
+                return;
+            }
+            INSTANCES.remove(storeKey, this);
+        }
+        shutdown();
+    }
+
+    private CacheManager createCacheManager() {
+        try {
+            CacheManager manager;
+            if (xmlConfiguration != null) {
+                manager = CacheManagerBuilder.newCacheManager(xmlConfiguration);
+            } else if (storeKey.diskStorePath() != null) {
+                Files.createDirectories(storeKey.diskStorePath());
+                manager = CacheManagerBuilder.newCacheManagerBuilder()
+                        .with(CacheManagerBuilder.persistence(storeKey.diskStorePath().toFile()))
+                        .build();
+            } else {
+                manager = CacheManagerBuilder.newCacheManagerBuilder().build();
+            }
+            manager.init();
+            log.info("EhCache manager initialized (config: {}, disk store: {})",
+                    storeKey.configPath(), storeKey.diskStorePath());
+            return manager;
+        } catch (Exception e) {
+            log.error("Failed to create EhCache manager", e);
+            throw new CacheException("Failed to create EhCache manager", e);
+        }
+    }
+
+    private static XmlConfiguration loadXmlConfiguration(String configPath) {
+        if (configPath == null || configPath.isEmpty()) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(configPath);
+            if (!Files.exists(path)) {
+                throw new FileNotFoundException("EhCache configuration file not found: " + path);
+            }
+            return new XmlConfiguration(path.toUri().toURL());
+        } catch (Exception e) {
+            log.error("Failed to load EhCache configuration: {}", configPath, e);
+            throw new CacheException("Failed to load EhCache configuration", e);
+        }
+    }
+
+    /**
+     * Closes the shared manager regardless of outstanding references.
+     */
+    @Override
+    public void close() {
+        synchronized (INSTANCES) {
+            references = 0;
+            INSTANCES.remove(storeKey, this);
+        }
+        shutdown();
+    }
+
+    private void shutdown() {
+        try {
+            cacheManager.close();
+            log.info("EhCache manager closed");
+        } catch (Exception e) {
+            log.error("Error closing EhCache manager", e);
+        }
+    }
+
+    private record StoreKey(String configPath, Path diskStorePath) {
+    }
+}
@@ -0,0 +1,356 @@
+package net.wizeops.wize4j.cache.providers.ehcache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.EhCacheOperations;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+import net.wizeops.wize4j.cache.events.CacheEvictionEvent;
+import net.wizeops.wize4j.cache.exceptions.CacheException;
+import org.ehcache.Cache;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.ehcache.event.EventType;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * EhCache 3 provider with up to three tiers: heap ({@code maxSize} entries), off-heap
+ * ({@code offHeapMaxBytes}) and disk ({@code ehcacheDiskMaxBytes}). The disk tier is enabled
+ * by {@code diskStorePath} or {@code diskPersistence}; with {@code diskPersistence} its content
+ * survives a restart. An {@code ehcacheConfigPath} XML file can provide the tiers instead,
+ * through a {@code <cache-template>} named after the cache or {@code default}.
+ * <p>
+ * Every entry keeps the TTL it was written with. Values leaving the heap are encoded with the
+ * cache's {@link net.wizeops.wize4j.cache.serialization.Serializer}.
+ */
+@Slf4j
+public class EhCacheProvider implements EhCacheOperations {
+    private static final String DEFAULT_ALIAS = "wize4j-cache";
+    static final String PROVIDER_NAME = "EhCache";
+
+    private final EhCacheManagerHolder managerHolder;
+    private final String alias;
+    private final Cache<String, TimedValue> cache;
+    private final CacheConfiguration config;
+    private final boolean persistent;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicReference<CacheStatistics> statistics = new AtomicReference<>(new CacheStatistics());
+    private final CacheEventListener<String, TimedValue> statisticsListener = this::onRemoval;
+
+    public EhCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Provider for one named cache, created in the EhCache manager shared by all caches with
+     * the same configuration file and disk store.
+     */
+    public EhCacheProvider(CacheConfiguration config, String cacheName) {
+        this.config = config;
+        this.alias = cacheName != null ? cacheName : DEFAULT_ALIAS;
+        this.managerHolder = EhCacheManagerHolder.getInstance(config);
+
+        try {
+            this.cache = managerHolder.openCache(alias, this::cacheConfiguration);
+            this.persistent = config.isDiskPersistence() && managerHolder.hasDiskStore();
+
+            if (config.isEnableStatistics()) {
+                cache.getRuntimeConfiguration().registerCacheEventListener(statisticsListener,
+                        EventOrdering.UNORDERED, EventFiring.ASYNCHRONOUS,
+                        EnumSet.of(EventType.EVICTED, EventType.EXPIRED));
+            }
+
+            log.info("EhCache provider initialized for cache: {}", alias);
+        } catch (Exception e) {
+            managerHolder.release();
+            log.error("Failed to initialize EhCache provider", e);
+            throw new CacheException("Failed to initialize EhCache provider", e);
+        }
+    }
+
+    private org.ehcache.config.CacheConfiguration<String, TimedValue> cacheConfiguration() {
+        CacheConfigurationBuilder<String, TimedValue> builder = managerHolder.templateFor(alias);
+        if (builder == null) {
+            builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(String.class, TimedValue.class, resourcePools());
+        }
+        return builder
+                .withExpiry(TimedValue.Expiry.INSTANCE)
+                .withValueSerializer(new TimedValue.Codec(config.getSerializer(), alias))
+                .build();
+    }
+
+    // Appelé de façon asynchrone par EhCache, une entrée à la fois
+    private void onRemoval(CacheEvent<? extends String, ? extends TimedValue> event) {
+        CacheEvictionEvent evictionEvent = CacheEvictionEvent.start();
+        statistics.get().recordEviction();
+        if (evictionEvent != null) {
+            evictionEvent.finish(alias, PROVIDER_NAME, event.getType() == EventType.EXPIRED
+                    ? CacheEvictionEvent.EXPIRED : CacheEvictionEvent.SIZE, 1);
+        }
+    }
+
+    private ResourcePoolsBuilder resourcePools() {
+        ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder()
+                .heap(config.getMaxSize(), EntryUnit.ENTRIES);
+        if (config.getOffHeapMaxBytes() > 0) {
+            pools = pools.offheap(config.getOffHeapMaxBytes(), MemoryUnit.B);
+        }
+        if (managerHolder.hasDiskStore()) {
+            pools = pools.disk(config.getEhcacheDiskMaxBytes(), MemoryUnit.B, config.isDiskPersistence());
+        }
+        return pools;
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Value cannot be null");
+        }
+
+        try {
+            cache.put(key, new TimedValue(value, ttl));
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordPut();
+            }
+            log.debug("Added entry to EhCache: {}", key);
+        } catch (Exception e) {
+            log.error("Error adding entry to EhCache: {}", key, e);
+            throw new CacheException("Failed to add entry to EhCache", e);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Value cannot be null");
+        }
+
+        try {
+            boolean stored = cache.putIfAbsent(key, new TimedValue(value, ttl)) == null;
+
+            if (stored && config.isEnableStatistics()) {
+                statistics.get().recordPut();
+            }
+            log.debug("Conditional put in EhCache: {}, stored: {}", key, stored);
+            return stored;
+        } catch (Exception e) {
+            log.error("Error adding entry to EhCache: {}", key, e);
+            throw new CacheException("Failed to add entry to EhCache", e);
+        }
+    }
+
+    @Override
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            Object value = TimedValue.unwrap(cache.get(key));
+
+            if (config.isEnableStatistics()) {
+                if (value != null) {
+                    statistics.get().recordHit();
+                } else {
+                    statistics.get().recordMiss();
+                }
+            }
+            log.debug("Cache {} for key: {}", value != null ? "hit" : "miss", key);
+            return value;
+        } catch (Exception e) {
+            log.error("Error retrieving entry from EhCache: {}", key, e);
+            throw new CacheException("Failed to retrieve entry from EhCache", e);
+        }
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return key != null && cache.containsKey(key);
+    }
+
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        Set<String> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.removeIf(Objects::isNull);
+        Map<String, Object> result = new HashMap<>();
+        if (distinctKeys.isEmpty()) {
+            return result;
+        }
+
+        try {
+            cache.getAll(distinctKeys).forEach((key, timedValue) -> {
+                Object value = TimedValue.unwrap(timedValue);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            });
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordHits(result.size());
+                statistics.get().recordMisses(distinctKeys.size() - result.size());
+            }
+            log.debug("Bulk get from EhCache: {} keys, {} hits", distinctKeys.size(), result.size());
+            return result;
+        } catch (Exception e) {
+            log.error("Error retrieving bulk entries from EhCache", e);
+            throw new CacheException("Failed to retrieve bulk entries from EhCache", e);
+        }
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Duration ttl) {
+        putBulk(entries, key -> ttl);
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Function<String, Duration> ttlForKey) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        // Le TTL voyage avec la valeur : un seul putAll, même avec des TTL différents
+        Map<String, TimedValue> toStore = new HashMap<>();
+        entries.forEach((key, value) -> {
+            if (key != null && value != null) {
+                toStore.put(key, new TimedValue(value, ttlForKey.apply(key)));
+            }
+        });
+
+        try {
+            cache.putAll(toStore);
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordPuts(toStore.size());
+            }
+            log.debug("Bulk stored {} entries in EhCache", toStore.size());
+        } catch (Exception e) {
+            log.error("Error storing bulk entries in EhCache", e);
+            throw new CacheException("Failed to store bulk entries in EhCache", e);
+        }
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        Set<String> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.removeIf(Objects::isNull);
+        if (distinctKeys.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            cache.removeAll(distinctKeys);
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordBulkEviction(distinctKeys.size());
+            }
+            log.debug("Bulk evicted {} keys from EhCache", distinctKeys.size());
+            // removeAll ne dit pas quelles clés étaient présentes
+            return distinctKeys.size();
+        } catch (Exception e) {
+            log.error("Error removing bulk keys from EhCache", e);
+            throw new CacheException("Failed to remove bulk keys from EhCache", e);
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        if (key == null) {
+            return;
+        }
+
+        try {
+            cache.remove(key);
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordEviction();
+            }
+            log.debug("Evicted key from EhCache: {}", key);
+        } catch (Exception e) {
+            log.error("Error evicting key from EhCache: {}", key, e);
+            throw new CacheException("Failed to evict key from EhCache", e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            cache.clear();
+
+            if (config.isEnableStatistics()) {
+                // EhCache ne fournit pas la taille sans parcourir tous les niveaux
+                statistics.get().recordClear(0);
+            }
+            log.debug("Cleared all entries from EhCache: {}", alias);
+        } catch (Exception e) {
+            log.error("Error clearing EhCache", e);
+            throw new CacheException("Failed to clear EhCache", e);
+        }
+    }
+
+    @Override
+    public void removeExpired() {
+        log.debug("EhCache expires entries on access and eviction");
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.get();
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public void close() {
+        // Une seule libération du gestionnaire partagé, même si close() est rappelé
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (config.isEnableStatistics()) {
+                cache.getRuntimeConfiguration().deregisterCacheEventListener(statisticsListener);
+            }
+            managerHolder.closeCache(alias);
+            log.info("EhCache provider closed for cache: {}", alias);
+        } catch (Exception e) {
+            log.error("Error closing EhCache provider", e);
+        } finally {
+            managerHolder.release();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package net.wizeops.wize4j.cache.providers.ehcache;
+
+import net.wizeops.wize4j.cache.events.CacheCodecEvent;
+import net.wizeops.wize4j.cache.serialization.Serializer;
+import org.ehcache.expiry.ExpiryPolicy;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cached value together with the TTL it was written with, so that {@link Expiry} can give
+ * each entry its own lifetime.
+ */
+final class TimedValue {
+    private final Object value;
+    private final long ttlMillis;
+
+    TimedValue(Object value, Duration ttl) {
+        this(value, ttl != null ? ttl.toMillis() : 0);
+    }
+
+    private TimedValue(Object value, long ttlMillis) {
+        this.value = value;
+        this.ttlMillis = ttlMillis;
+    }
+
+    static Object unwrap(TimedValue timedValue) {
+        return timedValue != null ? timedValue.value : null;
+    }
+
+    /**
+     * Expiry taken from the entry itself; a TTL of zero or less never expires.
+     */
+    static final class Expiry implements ExpiryPolicy<String, TimedValue> {
+        static final Expiry INSTANCE = new Expiry();
+
+        @Override
+        public Duration getExpiryForCreation(String key, TimedValue value) {
+            return value.ttlMillis > 0 ? Duration.ofMillis(value.ttlMillis) : INFINITE;
+        }
+
+        @Override
+        public Duration getExpiryForAccess(String key, Supplier<? extends TimedValue> value) {
+            return null;
+        }
+
+        @Override
+        public Duration getExpiryForUpdate(String key, Supplier<? extends TimedValue> oldValue, TimedValue newValue) {
+            return getExpiryForCreation(key, newValue);
+        }
+    }
+
+    /**
+     * Stores the TTL followed by the value encoded with the cache's {@link Serializer}. Used by
+     * the off-heap and disk tiers; the heap tier keeps references.
+     */
+    static final class Codec implements org.ehcache.spi.serialization.Serializer<TimedValue> {
+        private final Serializer serializer;
+        private final String cacheName;
+
+        Codec(Serializer serializer, String cacheName) {
+            this.serializer = serializer;
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public ByteBuffer serialize(TimedValue object) {
+            CacheCodecEvent event = CacheCodecEvent.start();
+            byte[] data = serializer.serialize(object.value);
+            if (event != null) {
+                event.finishEncode(cacheName, EhCacheProvider.PROVIDER_NAME, CacheCodecEvent.SERIALIZE,
+                        serializer.getClass().getSimpleName(), object.value, data);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + data.length);
+            buffer.putLong(object.ttlMillis).put(data).flip();
+            return buffer;
+        }
+
+        @Override
+        public TimedValue read(ByteBuffer binary) {
+            long ttlMillis = binary.getLong();
+            byte[] data = new byte[binary.remaining()];
+            binary.get(data);
+            CacheCodecEvent event = CacheCodecEvent.start();
+            Object value = serializer.deserialize(data);
+            if (event != null) {
+                event.finishDecode(cacheName, EhCacheProvider.PROVIDER_NAME, CacheCodecEvent.DESERIALIZE,
+                        serializer.getClass().getSimpleName(), data, value);
+            }
+            return new TimedValue(value, ttlMillis);
+        }
+
+        @Override
+        public boolean equals(TimedValue object, ByteBuffer binary) {
+            TimedValue other = read(binary);
+            return object.ttlMillis == other.ttlMillis && Objects.equals(object.value, other.value);
+        }
+    }
+}
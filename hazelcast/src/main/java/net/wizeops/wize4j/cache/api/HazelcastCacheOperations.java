@@ -1,8 +1,10 @@
 package net.wizeops.wize4j.cache.api;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public interface HazelcastCacheOperations extends CacheProvider {
@@ -18,8 +20,25 @@ public interface HazelcastCacheOperations extends CacheProvider {
 
     void unlock(String key);
 
+    /**
+     * Atomically replaces the value of {@code key} with the function's result, or removes it
+     * when the result is null. A {@link java.io.Serializable} function runs on the partition
+     * owner in one round trip; otherwise an optimistic compare-and-set loop is used and the
+     * function may be applied more than once.
+     */
     <R> R compute(String key, Function<Object, R> mappingFunction);
 
+    /**
+     * Returns the current value of {@code key}, computing and storing it atomically if absent.
+     */
+    Object computeIfAbsent(String key, Function<String, ?> mappingFunction, Duration ttl);
+
+    /**
+     * Stores {@code value} if {@code key} is absent, otherwise atomically replaces the current
+     * value with {@code remappingFunction(current, value)}, removing the entry when it returns null.
+     */
+    Object merge(String key, Object value, BiFunction<Object, Object, Object> remappingFunction, Duration ttl);
+
     void executeOnEntries(Object task);
 
     Map<String, Object> executeQuery(Object predicate);
@@ -0,0 +1,141 @@
+package net.wizeops.wize4j.cache.providers.hazelcast;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Entry processors behind the atomic read-modify-write operations of
+ * {@link HazelcastCacheProvider}. Each runs on the partition owner in a single round trip,
+ * without a distributed lock.
+ * <p>
+ * The user function runs once, on the primary replica. Backups receive the resulting value
+ * rather than re-running the function, so non-deterministic functions stay consistent.
+ * The functions are serialized with the processor, so their classes must be available on
+ * the cluster members.
+ */
+final class AtomicEntryProcessors {
+
+    private AtomicEntryProcessors() {
+    }
+
+    /**
+     * Applies an update to the entry and remembers it for the backup replicas.
+     */
+    abstract static class UpdatingProcessor<R> implements EntryProcessor<String, Object, R> {
+        private final long ttlMillis;
+        private transient boolean updated;
+        private transient Object updatedValue;
+
+        UpdatingProcessor(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+        }
+
+        void update(Map.Entry<String, Object> entry, Object value) {
+            apply(entry, value, ttlMillis);
+            updated = true;
+            updatedValue = value;
+        }
+
+        @Override
+        public EntryProcessor<String, Object, R> getBackupProcessor() {
+            return updated ? new BackupProcessor<>(updatedValue, ttlMillis) : null;
+        }
+
+        static void apply(Map.Entry<String, Object> entry, Object value, long ttlMillis) {
+            if (value != null && ttlMillis > 0 && entry instanceof ExtendedMapEntry<String, Object> extended) {
+                extended.setValue(value, ttlMillis, TimeUnit.MILLISECONDS);
+            } else {
+                // Une valeur null supprime l'entrée
+                entry.setValue(value);
+            }
+        }
+    }
+
+    static final class BackupProcessor<R> implements EntryProcessor<String, Object, R> {
+        private final Object value;
+        private final long ttlMillis;
+
+        BackupProcessor(Object value, long ttlMillis) {
+            this.value = value;
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        public R process(Map.Entry<String, Object> entry) {
+            UpdatingProcessor.apply(entry, value, ttlMillis);
+            return null;
+        }
+
+        @Override
+        public EntryProcessor<String, Object, R> getBackupProcessor() {
+            return null;
+        }
+    }
+
+    static final class Compute<R> extends UpdatingProcessor<R> {
+        private final Function<Object, R> mappingFunction;
+
+        Compute(Function<Object, R> mappingFunction) {
+            super(0);
+            this.mappingFunction = mappingFunction;
+        }
+
+        @Override
+        public R process(Map.Entry<String, Object> entry) {
+            Object current = entry.getValue();
+            R result = mappingFunction.apply(current);
+            if (result != null || current != null) {
+                update(entry, result);
+            }
+            return result;
+        }
+    }
+
+    static final class ComputeIfAbsent extends UpdatingProcessor<Object> {
+        private final Function<String, ?> mappingFunction;
+
+        ComputeIfAbsent(Function<String, ?> mappingFunction, long ttlMillis) {
+            super(ttlMillis);
+            this.mappingFunction = mappingFunction;
+        }
+
+        @Override
+        public Object process(Map.Entry<String, Object> entry) {
+            Object current = entry.getValue();
+            if (current != null) {
+                return current;
+            }
+            Object computed = mappingFunction.apply(entry.getKey());
+            if (computed != null) {
+                update(entry, computed);
+            }
+            return computed;
+        }
+    }
+
+    static final class Merge extends UpdatingProcessor<Object> {
+        private final Object value;
+        private final BiFunction<Object, Object, Object> remappingFunction;
+
+        Merge(Object value, BiFunction<Object, Object, Object> remappingFunction, long ttlMillis) {
+            super(ttlMillis);
+            this.value = value;
+            this.remappingFunction = remappingFunction;
+        }
+
+        @Override
+        public Object process(Map.Entry<String, Object> entry) {
+            Object current = entry.getValue();
+            Object merged = current == null ? value : remappingFunction.apply(current, value);
+            if (merged != null || current != null) {
+                update(entry, merged);
+            }
+            return merged;
+        }
+    }
+}
@@ -1,52 +1,73 @@
 package net.wizeops.wize4j.cache.providers.hazelcast;
 
-import com.hazelcast.client.HazelcastClient;
-import com.hazelcast.client.config.ClientConfig;
-import com.hazelcast.client.config.XmlClientConfigBuilder;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.EntryListener;
+import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.MapEvent;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.query.Predicate;
 import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.AsyncCacheProvider;
 import net.wizeops.wize4j.cache.api.HazelcastCacheOperations;
 import net.wizeops.wize4j.cache.config.CacheConfiguration;
 import net.wizeops.wize4j.cache.core.CacheStatistics;
 import net.wizeops.wize4j.cache.exceptions.CacheException;
 
-import java.io.FileNotFoundException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class HazelcastCacheProvider implements HazelcastCacheOperations {
+public class HazelcastCacheProvider implements HazelcastCacheOperations, AsyncCacheProvider {
+    private static final String MAP_NAME_PREFIX = "wize4j-cache";
+
+    private final HazelcastClientManager clientManager;
     private final HazelcastInstance hazelcastInstance;
     private final String mapName;
     private final IMap<String, Object> cacheMap;
     private final CacheConfiguration config;
+    private final int batchSize;
     private final AtomicReference<CacheStatistics> statistics = new AtomicReference<>(new CacheStatistics());
 
     private final Map<String, UUID> registeredListeners = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public HazelcastCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Provider for one named cache, backed by its own {@code IMap} on the shared client.
+     */
+    public HazelcastCacheProvider(CacheConfiguration config, String cacheName) {
         this.config = config;
-        this.mapName = "wize4j-cache";
+        this.mapName = cacheName != null ? MAP_NAME_PREFIX + "-" + cacheName : MAP_NAME_PREFIX;
+        this.batchSize = Math.max(1, config.getHazelcastBatchSize());
+        this.clientManager = HazelcastClientManager.getInstance(config);
 
         try {
-            this.hazelcastInstance = createHazelcastInstance(config);
+            this.hazelcastInstance = clientManager.getHazelcastInstance();
             this.cacheMap = hazelcastInstance.getMap(mapName);
 
             if (config.isEnableStatistics()) {
@@ -56,6 +77,7 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
             log.info("Hazelcast cache provider initialized with map name: {}", mapName);
             log.info("Hazelcast cluster members: {}", getClusterMembers());
         } catch (Exception e) {
+            clientManager.release();
             log.error("Failed to initialize Hazelcast cache provider", e);
             throw new CacheException("Failed to initialize Hazelcast cache provider", e);
         }
@@ -81,6 +103,25 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         }
     }
 
+    @Override
+    public boolean putIfAbsent(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Value cannot be null");
+        }
+
+        try {
+            boolean stored = cacheMap.putIfAbsent(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS) == null;
+            log.debug("Conditional put in Hazelcast cache: {}, stored: {}", key, stored);
+            return stored;
+        } catch (Exception e) {
+            log.error("Error adding entry to Hazelcast cache: {}", key, e);
+            throw new CacheException("Failed to add entry to Hazelcast cache", e);
+        }
+    }
+
     @Override
     public Object get(String key) {
         if (key == null) {
@@ -110,6 +151,91 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         }
     }
 
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        List<String> distinctKeys = distinctNonNull(keys);
+        Map<String, Object> result = new HashMap<>();
+        if (distinctKeys.isEmpty()) {
+            return result;
+        }
+
+        try {
+            // getAll regroupe les clés par partition et interroge les membres en parallèle
+            for (List<String> chunk : chunks(distinctKeys)) {
+                result.putAll(cacheMap.getAll(new HashSet<>(chunk)));
+            }
+
+            recordLookup(result.size(), distinctKeys.size() - result.size());
+            log.debug("Bulk get from Hazelcast cache: {} keys, {} hits", distinctKeys.size(), result.size());
+            return result;
+        } catch (Exception e) {
+            log.error("Error retrieving bulk entries from Hazelcast cache", e);
+            throw new CacheException("Failed to retrieve bulk entries from Hazelcast cache", e);
+        }
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Function<String, Duration> ttlForKey) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Object>> toStore = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                toStore.add(entry);
+            }
+        }
+
+        try {
+            // IMap.putAll ne prend pas de TTL : un setAsync par entrée, chaque lot part en une
+            // fois vers les propriétaires des partitions et est attendu avant le suivant
+            for (List<Map.Entry<String, Object>> chunk : chunks(toStore)) {
+                CompletableFuture<?>[] writes = new CompletableFuture[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    Map.Entry<String, Object> entry = chunk.get(i);
+                    long ttlMillis = ttlForKey.apply(entry.getKey()).toMillis();
+                    writes[i] = cacheMap.setAsync(entry.getKey(), entry.getValue(), ttlMillis, TimeUnit.MILLISECONDS)
+                            .toCompletableFuture();
+                }
+                CompletableFuture.allOf(writes).join();
+            }
+            log.debug("Bulk stored {} entries in Hazelcast cache", toStore.size());
+        } catch (Exception e) {
+            log.error("Error storing bulk entries in Hazelcast cache", e);
+            throw new CacheException("Failed to store bulk entries in Hazelcast cache", e);
+        }
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        List<String> distinctKeys = distinctNonNull(keys);
+        if (distinctKeys.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            long removed = 0;
+            for (List<String> chunk : chunks(distinctKeys)) {
+                List<CompletableFuture<Boolean>> deletes = new ArrayList<>(chunk.size());
+                for (String key : chunk) {
+                    deletes.add(cacheMap.deleteAsync(key).toCompletableFuture());
+                }
+                CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])).join();
+                for (CompletableFuture<Boolean> delete : deletes) {
+                    if (delete.join()) {
+                        removed++;
+                    }
+                }
+            }
+            log.debug("Bulk evicted {} keys from Hazelcast cache", removed);
+            return removed;
+        } catch (Exception e) {
+            log.error("Error removing bulk keys from Hazelcast cache", e);
+            throw new CacheException("Failed to remove bulk keys from Hazelcast cache", e);
+        }
+    }
+
     @Override
     public void evict(String key) {
         if (key == null) {
@@ -147,6 +273,87 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         log.debug("Hazelcast automatically manages entry expiration");
     }
 
+    @Override
+    public Duration getRemainingTtl(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            EntryView<String, Object> view = cacheMap.getEntryView(key);
+            // Long.MAX_VALUE : l'entrée n'expire pas
+            if (view == null || view.getExpirationTime() == Long.MAX_VALUE) {
+                return null;
+            }
+            return Duration.ofMillis(Math.max(0, view.getExpirationTime() - System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.error("Error reading TTL from Hazelcast cache: {}", key, e);
+            throw new CacheException("Failed to read TTL from Hazelcast cache", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(String key) {
+        if (key == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return adapt(cacheMap.getAsync(key), "Failed to retrieve entry from Hazelcast cache", key)
+                .thenApply(value -> {
+                    recordLookup(value != null ? 1 : 0, value != null ? 0 : 1);
+                    log.debug("Async cache {} for key: {}", value != null ? "hit" : "miss", key);
+                    return value;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value, Duration ttl) {
+        if (key == null) {
+            throw new CacheException("Key cannot be null");
+        }
+        if (value == null) {
+            throw new CacheException("Value cannot be null");
+        }
+
+        return adapt(cacheMap.setAsync(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS),
+                "Failed to add entry to Hazelcast cache", key);
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        if (key == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return adapt(cacheMap.deleteAsync(key), "Failed to evict key from Hazelcast cache", key)
+                .thenApply(removed -> null);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getBulkAsync(Collection<String> keys) {
+        // IMap has no getAllAsync: issue the lookups concurrently, they share the client connections
+        Map<String, CompletableFuture<Object>> lookups = new HashMap<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            if (key != null) {
+                lookups.put(key, cacheMap.getAsync(key).toCompletableFuture());
+            }
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]));
+        return adapt(all, "Failed to retrieve entries from Hazelcast cache", lookups.keySet())
+                .thenApply(ignored -> {
+                    Map<String, Object> result = new HashMap<>();
+                    lookups.forEach((key, lookup) -> {
+                        Object value = lookup.join();
+                        if (value != null) {
+                            result.put(key, value);
+                        }
+                    });
+                    recordLookup(result.size(), lookups.size() - result.size());
+                    return result;
+                });
+    }
+
     @Override
     public CacheStatistics getStatistics() {
         return statistics.get();
@@ -159,16 +366,20 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
 
     @Override
     public void close() {
+        // Le client est partagé : une seule libération par provider, même si close() est rappelé
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         try {
             for (Map.Entry<String, UUID> entry : registeredListeners.entrySet()) {
                 cacheMap.removeEntryListener(entry.getValue());
             }
             registeredListeners.clear();
-
-            hazelcastInstance.shutdown();
-            log.info("Hazelcast cache provider closed");
+            log.info("Hazelcast cache provider closed for map: {}", mapName);
         } catch (Exception e) {
             log.error("Error closing Hazelcast cache provider", e);
+        } finally {
+            clientManager.release();
         }
     }
 
@@ -273,20 +484,25 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         }
 
         try {
-            cacheMap.lock(key);
-            try {
-                Object currentValue = cacheMap.get(key);
-                R result = mappingFunction.apply(currentValue);
-
-                if (result != null) {
-                    cacheMap.put(key, result);
-                } else {
-                    cacheMap.remove(key);
-                }
+            if (mappingFunction instanceof Serializable) {
+                return cacheMap.executeOnKey(key, new AtomicEntryProcessors.Compute<>(mappingFunction));
+            }
 
-                return result;
-            } finally {
-                cacheMap.unlock(key);
+            // Fonction non sérialisable : CAS optimiste, sans verrou distribué
+            while (true) {
+                Object current = cacheMap.get(key);
+                R result = mappingFunction.apply(current);
+                if (current == null) {
+                    if (result == null || cacheMap.putIfAbsent(key, result) == null) {
+                        return result;
+                    }
+                } else if (result == null) {
+                    if (cacheMap.remove(key, current)) {
+                        return null;
+                    }
+                } else if (cacheMap.replace(key, current, result)) {
+                    return result;
+                }
             }
         } catch (Exception e) {
             log.error("Error computing value for key in Hazelcast cache: {}", key, e);
@@ -294,6 +510,70 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         }
     }
 
+    @Override
+    public Object computeIfAbsent(String key, Function<String, ?> mappingFunction, Duration ttl) {
+        if (key == null || mappingFunction == null) {
+            throw new CacheException("Key and mapping function cannot be null for computeIfAbsent operation");
+        }
+
+        try {
+            if (mappingFunction instanceof Serializable) {
+                return cacheMap.executeOnKey(key,
+                        new AtomicEntryProcessors.ComputeIfAbsent(mappingFunction, ttl.toMillis()));
+            }
+
+            Object existing = cacheMap.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            Object computed = mappingFunction.apply(key);
+            if (computed == null) {
+                return null;
+            }
+            Object previous = cacheMap.putIfAbsent(key, computed, ttl.toMillis(), TimeUnit.MILLISECONDS);
+            return previous != null ? previous : computed;
+        } catch (Exception e) {
+            log.error("Error computing absent value for key in Hazelcast cache: {}", key, e);
+            throw new CacheException("Failed to compute absent value for key in Hazelcast cache", e);
+        }
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<Object, Object, Object> remappingFunction, Duration ttl) {
+        if (key == null || value == null || remappingFunction == null) {
+            throw new CacheException("Key, value and remapping function cannot be null for merge operation");
+        }
+
+        try {
+            if (remappingFunction instanceof Serializable) {
+                return cacheMap.executeOnKey(key,
+                        new AtomicEntryProcessors.Merge(value, remappingFunction, ttl.toMillis()));
+            }
+
+            while (true) {
+                Object current = cacheMap.get(key);
+                if (current == null) {
+                    if (cacheMap.putIfAbsent(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS) == null) {
+                        return value;
+                    }
+                    continue;
+                }
+                Object merged = remappingFunction.apply(current, value);
+                if (merged == null) {
+                    if (cacheMap.remove(key, current)) {
+                        return null;
+                    }
+                } else if (cacheMap.replace(key, current, merged)) {
+                    cacheMap.setTtl(key, ttl.toMillis(), TimeUnit.MILLISECONDS);
+                    return merged;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error merging value for key in Hazelcast cache: {}", key, e);
+            throw new CacheException("Failed to merge value for key in Hazelcast cache", e);
+        }
+    }
+
     @Override
     public void executeOnEntries(Object task) {
         if (task == null) {
@@ -339,33 +619,40 @@ public class HazelcastCacheProvider implements HazelcastCacheOperations {
         }
     }
 
-    private HazelcastInstance createHazelcastInstance(CacheConfiguration cacheConfig) {
-        try {
-            if (cacheConfig.getHazelcastConfigPath() != null && !cacheConfig.getHazelcastConfigPath().isEmpty()) {
-                Path configPath = Paths.get(cacheConfig.getHazelcastConfigPath());
-
-                if (!Files.exists(configPath)) {
-                    throw new FileNotFoundException("Hazelcast configuration file not found: " + configPath);
-                }
-
-                ClientConfig clientConfig = new XmlClientConfigBuilder(configPath.toFile()).build();
-                return HazelcastClient.newHazelcastClient(clientConfig);
+    private <T> CompletableFuture<T> adapt(CompletionStage<T> stage, String message, Object key) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            if (error != null) {
+                log.error("{}: {}", message, key, error);
+                result.completeExceptionally(new CacheException(message, error));
+            } else {
+                result.complete(value);
             }
+        });
+        return result;
+    }
 
-            ClientConfig clientConfig = new ClientConfig();
-
-            if (cacheConfig.getHazelcastMembers() != null && !cacheConfig.getHazelcastMembers().isEmpty()) {
-                clientConfig.getNetworkConfig().setAddresses(cacheConfig.getHazelcastMembers());
-            }
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < items.size(); from += batchSize) {
+            chunks.add(items.subList(from, Math.min(from + batchSize, items.size())));
+        }
+        return chunks;
+    }
 
-            if (cacheConfig.getHazelcastGroupName() != null && !cacheConfig.getHazelcastGroupName().isEmpty()) {
-                clientConfig.setClusterName(cacheConfig.getHazelcastGroupName());
-            }
+    private static List<String> distinctNonNull(Collection<String> keys) {
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.removeIf(Objects::isNull);
+        return distinct;
+    }
 
-            return HazelcastClient.newHazelcastClient(clientConfig);
-        } catch (Exception e) {
-            log.error("Failed to create Hazelcast instance", e);
-            throw new CacheException("Failed to create Hazelcast instance", e);
+    private void recordLookup(int hits, int misses) {
+        if (config.isEnableStatistics()) {
+            statistics.get().recordHits(hits);
+            statistics.get().recordMisses(misses);
         }
     }
 
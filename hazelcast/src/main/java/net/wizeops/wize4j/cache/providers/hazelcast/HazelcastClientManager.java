@@ -12,29 +12,106 @@ import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * One Hazelcast client per cluster, shared by every cache provider that targets it.
+ * <p>
+ * {@link #getInstance} hands out the shared client and counts references; each caller must
+ * {@link #release()} it once. The client shuts down when the last reference is released.
+ */
 @Slf4j
 public class HazelcastClientManager implements AutoCloseable {
-    private static final AtomicReference<HazelcastClientManager> INSTANCE = new AtomicReference<>();
+    // Le client est créé hors du verrou : un cluster injoignable ne bloque pas les autres
+    private static final Map<ClusterKey, CompletableFuture<HazelcastClientManager>> INSTANCES = new HashMap<>();
 
+    private final ClusterKey clusterKey;
     private final HazelcastInstance hazelcastInstance;
+    private int references;
 
-    private HazelcastClientManager(CacheConfiguration config) {
+    private HazelcastClientManager(ClusterKey clusterKey, CacheConfiguration config) {
+        this.clusterKey = clusterKey;
         this.hazelcastInstance = createHazelcastInstance(config);
     }
 
-    public static synchronized HazelcastClientManager getInstance(CacheConfiguration config) {
-        if (INSTANCE.get() == null) {
-            INSTANCE.set(new HazelcastClientManager(config));
+    public static HazelcastClientManager getInstance(CacheConfiguration config) {
+        ClusterKey key = new ClusterKey(config.getHazelcastConfigPath(), config.getHazelcastMembers(),
+                config.getHazelcastGroupName());
+        while (true) {
+            CompletableFuture<HazelcastClientManager> future;
+            boolean creator = false;
+            synchronized (INSTANCES) {
+                future = INSTANCES.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    INSTANCES.put(key, future);
+                    creator = true;
+                } else if (future.isDone() && !future.isCompletedExceptionally()) {
+                    HazelcastClientManager manager = future.join();
+                    manager.references++;
+                    return manager;
+                }
+            }
+
+            if (creator) {
+                return create(key, config, future);
+            }
+            awaitCreation(future);
+            // Le client a pu être libéré entre-temps : on reprend sous le verrou
+        }
+    }
+
+    private static HazelcastClientManager create(ClusterKey key, CacheConfiguration config,
+                                                 CompletableFuture<HazelcastClientManager> future) {
+        HazelcastClientManager manager;
+        try {
+            manager = new HazelcastClientManager(key, config);
+        } catch (RuntimeException e) {
+            synchronized (INSTANCES) {
+                INSTANCES.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (INSTANCES) {
+            manager.references++;
+        }
+        future.complete(manager);
+        return manager;
+    }
+
+    private static void awaitCreation(CompletableFuture<HazelcastClientManager> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CacheException cacheException) {
+                throw cacheException;
+            }
+            throw new CacheException("Failed to create Hazelcast instance", e.getCause());
         }
-        return INSTANCE.get();
     }
 
     public HazelcastInstance getHazelcastInstance() {
         return hazelcastInstance;
     }
 
+    /**
+     * Releases one reference; the client is shut down when none remain.
+     */
+    public void release() {
+        synchronized (INSTANCES) {
+            if (--references > 0) {
+                return;
+            }
+            unregister();
+        }
+        shutdown();
+    }
+
     private HazelcastInstance createHazelcastInstance(CacheConfiguration cacheConfig) {
         try {
             if (cacheConfig.getHazelcastConfigPath() != null && !cacheConfig.getHazelcastConfigPath().isEmpty()) {
@@ -65,8 +142,26 @@ public class HazelcastClientManager implements AutoCloseable {
         }
     }
 
+    /**
+     * Shuts the shared client down regardless of outstanding references.
+     */
     @Override
     public void close() {
+        synchronized (INSTANCES) {
+            references = 0;
+            unregister();
+        }
+        shutdown();
+    }
+
+    private void unregister() {
+        CompletableFuture<HazelcastClientManager> future = INSTANCES.get(clusterKey);
+        if (future != null && future.getNow(null) == this) {
+            INSTANCES.remove(clusterKey);
+        }
+    }
+
+    private void shutdown() {
         if (hazelcastInstance != null) {
             try {
                 hazelcastInstance.shutdown();
@@ -75,6 +170,8 @@ public class HazelcastClientManager implements AutoCloseable {
                 log.error("Error shutting down Hazelcast client instance", e);
             }
         }
-        INSTANCE.set(null);
+    }
+
+    private record ClusterKey(String configPath, List<String> members, String clusterName) {
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.wizeops.wize4j.cache.api;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -10,8 +11,14 @@ public interface RedisCacheOperations extends CacheProvider {
 
     boolean expire(String key, Duration ttl);
 
+    /**
+     * @deprecated materializes every matching key in memory, use {@link #scanKeys(String)}
+     */
+    @Deprecated
     Set<String> keys(String pattern);
 
+    Iterator<String> scanKeys(String pattern);
+
     boolean ping();
 
     void hset(String key, String field, Object value);
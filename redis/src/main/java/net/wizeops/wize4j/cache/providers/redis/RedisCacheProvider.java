@@ -1,58 +1,74 @@
 package net.wizeops.wize4j.cache.providers.redis;
 
 import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.api.AsyncCacheProvider;
 import net.wizeops.wize4j.cache.api.RedisCacheOperations;
 import net.wizeops.wize4j.cache.config.CacheConfiguration;
 import net.wizeops.wize4j.cache.core.CacheStatistics;
 import net.wizeops.wize4j.cache.exceptions.CacheException;
+import net.wizeops.wize4j.cache.events.CacheCodecEvent;
+import net.wizeops.wize4j.cache.serialization.Serializer;
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
 
-import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Slf4j
-public class RedisCacheProvider implements RedisCacheOperations {
-    private final JedisPool jedisPool;
+public class RedisCacheProvider implements RedisCacheOperations, AsyncCacheProvider {
+    private static final String KEY_PREFIX = "wize4j:cache:";
+    // Racine distincte : le SCAN "wize4j:cache:*" du provider sans nom ne voit pas les caches nommés
+    private static final String NAMED_KEY_PREFIX = "wize4j:caches:";
+
+    private final RedisConnectionManager connectionManager;
+    private final ExecutorService asyncExecutor;
     private final CacheConfiguration config;
+    private final String cacheName;
     private final AtomicReference<CacheStatistics> statistics = new AtomicReference<>(new CacheStatistics());
     private final String keyPrefix;
+    private final String scanPrefix;
+    private final int batchSize;
+    private final Serializer serializer;
+    private final RedisNearCache nearCache;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public RedisCacheProvider(CacheConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Provider for one named cache: keys live under {@code wize4j:caches:<cacheName>:} and
+     * connections come from the pool shared by all caches on the same server. Without a name,
+     * keys keep living directly under {@code wize4j:cache:}, a namespace that no named cache
+     * shares.
+     */
+    public RedisCacheProvider(CacheConfiguration config, String cacheName) {
         this.config = config;
-        this.keyPrefix = "wize4j:cache:";
-
-        JedisPoolConfig poolConfig = new JedisPoolConfig();
-        poolConfig.setMaxTotal(100);
-        poolConfig.setMaxIdle(20);
-        poolConfig.setMinIdle(5);
-        poolConfig.setTestOnBorrow(true);
-        poolConfig.setTestOnReturn(true);
-        poolConfig.setTestWhileIdle(true);
-
-        this.jedisPool = new JedisPool(
-                poolConfig,
-                config.getRedisHost() != null ? config.getRedisHost() : "localhost",
-                config.getRedisPort() > 0 ? config.getRedisPort() : 6379,
-                2000, // timeout
-                config.getRedisPassword(),
-                Math.max(config.getRedisDatabase(), 0)
-        );
-
-        try (Jedis jedis = jedisPool.getResource()) {
-            if (!jedis.ping().equalsIgnoreCase("PONG")) {
-                throw new CacheException("Cannot connect to Redis server");
-            }
-            log.info("Connected to Redis server: {}:{} database: {}",
-                    config.getRedisHost(), config.getRedisPort(), config.getRedisDatabase());
-        } catch (Exception e) {
-            log.error("Failed to connect to Redis", e);
-            throw new CacheException("Failed to connect to Redis server", e);
+        this.cacheName = cacheName;
+        this.keyPrefix = cacheName != null ? NAMED_KEY_PREFIX + cacheName + ":" : KEY_PREFIX;
+        this.scanPrefix = escapeGlob(keyPrefix);
+        this.batchSize = Math.max(1, config.getRedisBatchSize());
+        this.serializer = config.getSerializer();
+        this.connectionManager = RedisConnectionManager.getInstance(config);
+        this.asyncExecutor = connectionManager.getAsyncExecutor();
+
+        try {
+            this.nearCache = config.isRedisNearCacheEnabled()
+                    ? new RedisNearCache(config, keyPrefix, () -> config.isEnableStatistics() ? statistics.get() : null)
+                    : null;
+        } catch (RuntimeException e) {
+            connectionManager.release();
+            throw e;
         }
     }
 
@@ -61,16 +77,19 @@ public class RedisCacheProvider implements RedisCacheOperations {
         if (key == null || value == null) {
             return;
         }
+        validateTtl(key, ttl);
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             byte[] serialized = serialize(value);
 
+            // PX : un TTL de moins d'une seconde ne doit pas devenir EX 0, refusé par Redis
             SetParams params = new SetParams();
-            params.ex(ttl.getSeconds());
+            params.px(ttl.toMillis());
 
-            jedis.set(redisKey.getBytes(), serialized, params);
+            jedis.set(redisKey.getBytes(StandardCharsets.UTF_8), serialized, params);
+            invalidateLocal(key);
 
             if (config.isEnableStatistics()) {
                 statistics.get().recordPut();
@@ -88,12 +107,22 @@ public class RedisCacheProvider implements RedisCacheOperations {
             return null;
         }
 
+        if (nearCache != null) {
+            Object local = nearCache.get(key);
+            if (local != null) {
+                log.debug("Near cache hit for key: {}", key);
+                return local;
+            }
+        }
+
         String redisKey = formatKey(key);
+        Object load = nearCache != null ? nearCache.beginLoad(key) : null;
 
-        try (Jedis jedis = jedisPool.getResource()) {
-            byte[] data = jedis.get(redisKey.getBytes());
+        try (Jedis jedis = connectionManager.getResource()) {
+            byte[] data = jedis.get(redisKey.getBytes(StandardCharsets.UTF_8));
 
             if (data == null) {
+                completeLocalLoad(key, load, null);
                 if (config.isEnableStatistics()) {
                     statistics.get().recordMiss();
                 }
@@ -106,14 +135,184 @@ public class RedisCacheProvider implements RedisCacheOperations {
             }
 
             Object value = deserialize(data);
+            completeLocalLoad(key, load, value);
             log.debug("Cache hit for key: {}", key);
             return value;
         } catch (Exception e) {
+            completeLocalLoad(key, load, null);
             log.error("Error retrieving value from Redis for key: {}", key, e);
             throw new CacheException("Failed to retrieve value from Redis", e);
         }
     }
 
+    @Override
+    public Map<String, Object> getBulk(Collection<String> keys) {
+        List<String> distinctKeys = distinctNonNull(keys);
+        Map<String, Object> result = new HashMap<>();
+        if (distinctKeys.isEmpty()) {
+            return result;
+        }
+
+        List<String> remoteKeys = distinctKeys;
+        if (nearCache != null) {
+            remoteKeys = new ArrayList<>(distinctKeys.size());
+            for (String key : distinctKeys) {
+                Object local = nearCache.get(key);
+                if (local != null) {
+                    result.put(key, local);
+                } else {
+                    remoteKeys.add(key);
+                }
+            }
+        }
+        int localHits = result.size();
+
+        try (Jedis jedis = connectionManager.getResource()) {
+            // Un MGET par lot, tous envoyés dans le même pipeline : un seul aller-retour
+            List<List<String>> chunks = chunks(remoteKeys);
+            List<Response<List<byte[]>>> replies = new ArrayList<>(chunks.size());
+            Object[] loads = new Object[remoteKeys.size()];
+            Pipeline pipeline = jedis.pipelined();
+            int index = 0;
+            for (List<String> chunk : chunks) {
+                byte[][] redisKeys = new byte[chunk.size()][];
+                for (int i = 0; i < chunk.size(); i++, index++) {
+                    redisKeys[i] = formatKey(chunk.get(i)).getBytes(StandardCharsets.UTF_8);
+                    loads[index] = nearCache != null ? nearCache.beginLoad(chunk.get(i)) : null;
+                }
+                replies.add(pipeline.mget(redisKeys));
+            }
+            pipeline.sync();
+
+            index = 0;
+            for (int c = 0; c < chunks.size(); c++) {
+                List<String> chunk = chunks.get(c);
+                List<byte[]> values = replies.get(c).get();
+                for (int i = 0; i < chunk.size(); i++, index++) {
+                    byte[] data = values.get(i);
+                    Object value = data != null ? deserialize(data) : null;
+                    completeLocalLoad(chunk.get(i), loads[index], value);
+                    if (value != null) {
+                        result.put(chunk.get(i), value);
+                    }
+                }
+            }
+
+            if (config.isEnableStatistics()) {
+                statistics.get().recordHits(result.size() - localHits);
+                statistics.get().recordMisses(distinctKeys.size() - result.size());
+            }
+            log.debug("Bulk get from Redis: {} keys, {} hits", distinctKeys.size(), result.size());
+            return result;
+        } catch (Exception e) {
+            log.error("Error retrieving bulk values from Redis", e);
+            throw new CacheException("Failed to retrieve bulk values from Redis", e);
+        }
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Duration ttl) {
+        putBulk(entries, key -> ttl);
+    }
+
+    @Override
+    public void putBulk(Map<String, Object> entries, Function<String, Duration> ttlForKey) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        // TTLs vérifiés avant d'envoyer quoi que ce soit : pas d'écriture partielle pour un TTL invalide
+        List<Map.Entry<String, Object>> toStore = new ArrayList<>(entries.size());
+        Map<String, Duration> ttls = new HashMap<>();
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                Duration ttl = ttlForKey.apply(entry.getKey());
+                validateTtl(entry.getKey(), ttl);
+                ttls.put(entry.getKey(), ttl);
+                toStore.add(entry);
+            }
+        }
+
+        int stored = 0;
+        List<String> failedKeys = new ArrayList<>();
+        Exception firstFailure = null;
+        try (Jedis jedis = connectionManager.getResource()) {
+            for (List<Map.Entry<String, Object>> chunk : chunks(toStore)) {
+                List<Response<String>> replies = new ArrayList<>(chunk.size());
+                Pipeline pipeline = jedis.pipelined();
+                for (Map.Entry<String, Object> entry : chunk) {
+                    SetParams params = new SetParams().px(ttls.get(entry.getKey()).toMillis());
+                    replies.add(pipeline.set(formatKey(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            serialize(entry.getValue()), params));
+                }
+                pipeline.sync();
+                for (Map.Entry<String, Object> entry : chunk) {
+                    invalidateLocal(entry.getKey());
+                }
+
+                // Une réponse en erreur n'interrompt pas le pipeline : chaque SET est vérifié
+                for (int i = 0; i < chunk.size(); i++) {
+                    try {
+                        replies.get(i).get();
+                        stored++;
+                    } catch (RuntimeException e) {
+                        failedKeys.add(chunk.get(i).getKey());
+                        if (firstFailure == null) {
+                            firstFailure = e;
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error storing bulk values in Redis", e);
+            throw new CacheException("Failed to store bulk values in Redis", e);
+        } finally {
+            if (stored > 0 && config.isEnableStatistics()) {
+                statistics.get().recordPuts(stored);
+            }
+        }
+
+        if (!failedKeys.isEmpty()) {
+            log.error("Redis rejected {} of {} bulk writes, first keys: {}", failedKeys.size(), toStore.size(),
+                    failedKeys.subList(0, Math.min(10, failedKeys.size())), firstFailure);
+            throw new CacheException("Failed to store " + failedKeys.size() + " of " + toStore.size()
+                    + " bulk values in Redis", firstFailure);
+        }
+        log.debug("Bulk stored {} values in Redis", stored);
+    }
+
+    @Override
+    public long evictBulk(Collection<String> keys) {
+        List<String> distinctKeys = distinctNonNull(keys);
+        if (distinctKeys.isEmpty()) {
+            return 0;
+        }
+
+        try (Jedis jedis = connectionManager.getResource()) {
+            List<Response<Long>> replies = new ArrayList<>();
+            Pipeline pipeline = jedis.pipelined();
+            for (List<String> chunk : chunks(distinctKeys)) {
+                replies.add(pipeline.unlink(chunk.stream().map(this::formatKey).toArray(String[]::new)));
+            }
+            pipeline.sync();
+            distinctKeys.forEach(this::invalidateLocal);
+
+            long removed = 0;
+            for (Response<Long> reply : replies) {
+                removed += reply.get();
+            }
+
+            if (removed > 0 && config.isEnableStatistics()) {
+                statistics.get().recordBulkEviction((int) removed);
+            }
+            log.debug("Bulk evicted {} keys from Redis", removed);
+            return removed;
+        } catch (Exception e) {
+            log.error("Error removing bulk keys from Redis", e);
+            throw new CacheException("Failed to remove bulk keys from Redis", e);
+        }
+    }
+
     @Override
     public void evict(String key) {
         if (key == null) {
@@ -122,8 +321,9 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             long removed = jedis.del(redisKey);
+            invalidateLocal(key);
             if (removed > 0 && config.isEnableStatistics()) {
                 statistics.get().recordEviction();
                 log.debug("Evicted key from Redis: {}", key);
@@ -136,15 +336,27 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
     @Override
     public void clear() {
-        try (Jedis jedis = jedisPool.getResource()) {
-            Set<String> keys = jedis.keys(keyPrefix + "*");
-            if (!keys.isEmpty()) {
-                jedis.del(keys.toArray(new String[0]));
-                if (config.isEnableStatistics()) {
-                    statistics.get().recordClear(keys.size());
+        // SCAN + UNLINK par lots : ni KEYS ni DEL géant qui bloqueraient le serveur
+        ScanParams params = new ScanParams().match(scanPrefix + "*").count(batchSize);
+        try (Jedis jedis = connectionManager.getResource()) {
+            long removed = 0;
+            String cursor = ScanParams.SCAN_POINTER_START;
+            do {
+                ScanResult<String> page = jedis.scan(cursor, params);
+                List<String> keys = page.getResult();
+                if (!keys.isEmpty()) {
+                    removed += jedis.unlink(keys.toArray(new String[0]));
                 }
-                log.debug("Cleared all keys from Redis cache");
+                cursor = page.getCursor();
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+            if (nearCache != null) {
+                nearCache.invalidateAll();
+            }
+
+            if (removed > 0 && config.isEnableStatistics()) {
+                statistics.get().recordClear((int) removed);
             }
+            log.debug("Cleared {} keys from Redis cache", removed);
         } catch (Exception e) {
             log.error("Error clearing Redis cache", e);
             throw new CacheException("Failed to clear Redis cache", e);
@@ -156,10 +368,92 @@ public class RedisCacheProvider implements RedisCacheOperations {
         log.debug("Redis automatically manages key expiration");
     }
 
+    @Override
+    public Duration getRemainingTtl(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        try (Jedis jedis = connectionManager.getResource()) {
+            return remainingTtl(jedis.pttl(formatKey(key)));
+        } catch (Exception e) {
+            log.error("Error reading TTL from Redis for key: {}", key, e);
+            throw new CacheException("Failed to read TTL from Redis", e);
+        }
+    }
+
+    @Override
+    public Map<String, Duration> getRemainingTtls(Collection<String> keys) {
+        List<String> distinctKeys = distinctNonNull(keys);
+        Map<String, Duration> result = new HashMap<>();
+        if (distinctKeys.isEmpty()) {
+            return result;
+        }
+
+        try (Jedis jedis = connectionManager.getResource()) {
+            // Un PTTL par clé, tous dans le même pipeline
+            List<Response<Long>> replies = new ArrayList<>(distinctKeys.size());
+            Pipeline pipeline = jedis.pipelined();
+            for (String key : distinctKeys) {
+                replies.add(pipeline.pttl(formatKey(key)));
+            }
+            pipeline.sync();
+
+            for (int i = 0; i < distinctKeys.size(); i++) {
+                Duration ttl = remainingTtl(replies.get(i).get());
+                if (ttl != null) {
+                    result.put(distinctKeys.get(i), ttl);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Error reading bulk TTLs from Redis", e);
+            throw new CacheException("Failed to read TTLs from Redis", e);
+        }
+    }
+
+    private static void validateTtl(String key, Duration ttl) {
+        if (ttl == null || ttl.toMillis() <= 0) {
+            throw new CacheException("TTL must be positive for key " + key + ": " + ttl);
+        }
+    }
+
+    // PTTL : -2 si la clé n'existe pas, -1 si elle n'expire pas
+    private static Duration remainingTtl(long pttl) {
+        return pttl >= 0 ? Duration.ofMillis(pttl) : null;
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(String key) {
+        return CompletableFuture.supplyAsync(() -> get(key), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value, Duration ttl) {
+        return CompletableFuture.runAsync(() -> put(key, value, ttl), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return CompletableFuture.runAsync(() -> evict(key), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getBulkAsync(Collection<String> keys) {
+        return CompletableFuture.supplyAsync(() -> getBulk(keys), asyncExecutor);
+    }
+
     @Override
     public void close() {
-        jedisPool.close();
-        log.info("Redis cache provider closed");
+        // Le pool est partagé : une seule libération par provider, même si close() est rappelé
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (nearCache != null) {
+            nearCache.close();
+        }
+        connectionManager.release();
+        log.info("Redis cache provider closed for prefix: {}", keyPrefix);
     }
 
     @Override
@@ -180,8 +474,9 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             Long newValue = jedis.incrBy(redisKey, delta);
+            invalidateLocal(key);
             log.debug("Incremented key: {} by {}, new value: {}", key, delta, newValue);
             return newValue;
         } catch (Exception e) {
@@ -198,7 +493,7 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             long result = jedis.expire(redisKey, ttl.getSeconds());
             boolean success = result == 1;
             log.debug("Set expiration for key: {} to {} seconds, success: {}",
@@ -211,28 +506,36 @@ public class RedisCacheProvider implements RedisCacheOperations {
     }
 
     @Override
+    @Deprecated
     public Set<String> keys(String pattern) {
+        Set<String> keys = new HashSet<>();
+        scanKeys(pattern).forEachRemaining(keys::add);
+        return keys;
+    }
+
+    @Override
+    public Iterator<String> scanKeys(String pattern) {
         if (pattern == null) {
             throw new CacheException("Pattern cannot be null for keys operation");
         }
 
-        String redisPattern = formatKey(pattern);
+        ScanParams params = new ScanParams().match(scanPrefix + pattern).count(batchSize);
+        // Enlever le préfixe des clés retournées
+        return new RedisKeyIterator(cursor -> scanPage(cursor, params, pattern), this::stripKeyPrefix);
+    }
 
-        try (Jedis jedis = jedisPool.getResource()) {
-            Set<String> keys = jedis.keys(redisPattern);
-            // Enlever le préfixe des clés retournées
-            return keys.stream()
-                    .map(this::stripKeyPrefix)
-                    .collect(Collectors.toSet());
+    private ScanResult<String> scanPage(String cursor, ScanParams params, String pattern) {
+        try (Jedis jedis = connectionManager.getResource()) {
+            return jedis.scan(cursor, params);
         } catch (Exception e) {
-            log.error("Error getting keys from Redis with pattern: {}", pattern, e);
+            log.error("Error scanning keys from Redis with pattern: {}", pattern, e);
             throw new CacheException("Failed to get keys from Redis", e);
         }
     }
 
     @Override
     public boolean ping() {
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             boolean success = "PONG".equalsIgnoreCase(jedis.ping());
             log.debug("Redis ping result: {}", success ? "PONG" : "FAILED");
             return success;
@@ -250,9 +553,9 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
+        try (Jedis jedis = connectionManager.getResource()) {
             byte[] serialized = serialize(value);
-            jedis.hset(redisKey.getBytes(), field.getBytes(), serialized);
+            jedis.hset(redisKey.getBytes(StandardCharsets.UTF_8), field.getBytes(StandardCharsets.UTF_8), serialized);
             log.debug("Stored hash value in Redis for key: {}, field: {}", key, field);
         } catch (Exception e) {
             log.error("Error storing hash value in Redis for key: {}, field: {}", key, field, e);
@@ -268,8 +571,8 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
-            byte[] data = jedis.hget(redisKey.getBytes(), field.getBytes());
+        try (Jedis jedis = connectionManager.getResource()) {
+            byte[] data = jedis.hget(redisKey.getBytes(StandardCharsets.UTF_8), field.getBytes(StandardCharsets.UTF_8));
 
             if (data == null) {
                 if (config.isEnableStatistics()) {
@@ -300,8 +603,8 @@ public class RedisCacheProvider implements RedisCacheOperations {
 
         String redisKey = formatKey(key);
 
-        try (Jedis jedis = jedisPool.getResource()) {
-            Map<byte[], byte[]> data = jedis.hgetAll(redisKey.getBytes());
+        try (Jedis jedis = connectionManager.getResource()) {
+            Map<byte[], byte[]> data = jedis.hgetAll(redisKey.getBytes(StandardCharsets.UTF_8));
 
             if (data.isEmpty()) {
                 log.debug("Empty hash or non-existent key: {}", key);
@@ -323,6 +626,34 @@ public class RedisCacheProvider implements RedisCacheOperations {
         }
     }
 
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < items.size(); from += batchSize) {
+            chunks.add(items.subList(from, Math.min(from + batchSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private static List<String> distinctNonNull(Collection<String> keys) {
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.removeIf(Objects::isNull);
+        return distinct;
+    }
+
+    private static String escapeGlob(String prefix) {
+        StringBuilder escaped = new StringBuilder(prefix.length());
+        for (char c : prefix.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
     private String formatKey(String key) {
         return keyPrefix + key;
     }
@@ -334,25 +665,37 @@ public class RedisCacheProvider implements RedisCacheOperations {
         return key;
     }
 
-    private byte[] serialize(Object obj) throws Exception {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-            oos.writeObject(obj);
-            return baos.toByteArray();
-        } catch (IOException e) {
-            log.error("Error serializing object", e);
-            throw new CacheException("Failed to serialize object", e);
+    // Les invalidations serveur finissent par arriver ; on n'attend pas pour ses propres écritures
+    private void invalidateLocal(String key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private void completeLocalLoad(String key, Object load, Object value) {
+        if (nearCache != null) {
+            nearCache.completeLoad(key, load, value);
+        }
+    }
+
+    private byte[] serialize(Object obj) {
+        CacheCodecEvent event = CacheCodecEvent.start();
+        byte[] data = serializer.serialize(obj);
+        if (event != null) {
+            event.finishEncode(cacheName, getProviderName(), CacheCodecEvent.SERIALIZE,
+                    serializer.getClass().getSimpleName(), obj, data);
         }
+        return data;
     }
 
-    private Object deserialize(byte[] data) throws Exception {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data);
-             ObjectInputStream ois = new ObjectInputStream(bais)) {
-            return ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            log.error("Error deserializing object", e);
-            throw new CacheException("Failed to deserialize object", e);
+    private Object deserialize(byte[] data) {
+        CacheCodecEvent event = CacheCodecEvent.start();
+        Object value = serializer.deserialize(data);
+        if (event != null) {
+            event.finishDecode(cacheName, getProviderName(), CacheCodecEvent.DESERIALIZE,
+                    serializer.getClass().getSimpleName(), data, value);
         }
+        return value;
     }
 }
 
@@ -7,28 +7,91 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+/**
+ * One connection pool (and async executor) per Redis server, shared by every cache provider
+ * that targets it.
+ * <p>
+ * {@link #getInstance} hands out the shared manager and counts references; each caller must
+ * {@link #release()} it once. The pool is closed when the last reference is released. A
+ * manager built with the public constructor is not shared and holds a single reference.
+ */
 @Slf4j
 public class RedisConnectionManager implements AutoCloseable {
+    // Jedis est bloquant : les opérations async tournent sur un pool dédié
+    private static final int ASYNC_POOL_SIZE = 16;
+
+    // Le pool est créé hors du verrou : un serveur injoignable ne bloque pas les autres
+    private static final Map<ServerKey, CompletableFuture<RedisConnectionManager>> INSTANCES = new HashMap<>();
+
+    private final ServerKey serverKey;
     private final JedisPool jedisPool;
+    private final ExecutorService asyncExecutor;
+    private int references;
+
+    public static RedisConnectionManager getInstance(CacheConfiguration config) {
+        ServerKey key = serverKey(config);
+        while (true) {
+            CompletableFuture<RedisConnectionManager> future;
+            boolean creator = false;
+            synchronized (INSTANCES) {
+                future = INSTANCES.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    INSTANCES.put(key, future);
+                    creator = true;
+                } else if (future.isDone() && !future.isCompletedExceptionally()) {
+                    RedisConnectionManager manager = future.join();
+                    manager.references++;
+                    return manager;
+                }
+            }
+
+            if (creator) {
+                return create(key, future);
+            }
+            awaitCreation(future);
+            // Le gestionnaire a pu être libéré entre-temps : on reprend sous le verrou
+        }
+    }
 
+    /**
+     * Creates a manager that is not shared with other callers; {@link #release()} or
+     * {@link #close()} closes its pool.
+     */
     public RedisConnectionManager(CacheConfiguration config) {
+        this(serverKey(config));
+        this.references = 1;
+    }
+
+    private RedisConnectionManager(ServerKey serverKey) {
+        this.serverKey = serverKey;
+
         JedisPoolConfig poolConfig = new JedisPoolConfig();
         poolConfig.setMaxTotal(100);
         poolConfig.setMaxIdle(20);
         poolConfig.setMinIdle(5);
-        poolConfig.setTestOnBorrow(true);
-        poolConfig.setTestOnReturn(true);
+        // Pas de PING à chaque emprunt/restitution : les connexions inactives sont vérifiées en tâche de fond
+        poolConfig.setTestOnBorrow(false);
+        poolConfig.setTestOnReturn(false);
         poolConfig.setTestWhileIdle(true);
 
         this.jedisPool = new JedisPool(
                 poolConfig,
-                config.getRedisHost() != null ? config.getRedisHost() : "localhost",
-                config.getRedisPort() > 0 ? config.getRedisPort() : 6379,
+                serverKey.host(),
+                serverKey.port(),
                 2000, // timeout
-                config.getRedisPassword(),
-                Math.max(config.getRedisDatabase(), 0)
+                serverKey.password(),
+                serverKey.database()
         );
 
         try (Jedis jedis = jedisPool.getResource()) {
@@ -36,11 +99,67 @@ public class RedisConnectionManager implements AutoCloseable {
                 throw new CacheException("Cannot connect to Redis server");
             }
             log.info("Connected to Redis server: {}:{} database: {}",
-                    config.getRedisHost(), config.getRedisPort(), config.getRedisDatabase());
+                    serverKey.host(), serverKey.port(), serverKey.database());
         } catch (Exception e) {
+            jedisPool.close();
             log.error("Failed to connect to Redis", e);
             throw new CacheException("Failed to connect to Redis server", e);
         }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.asyncExecutor = Executors.newFixedThreadPool(ASYNC_POOL_SIZE, r -> {
+            Thread thread = new Thread(r, "redis-async-thread-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static RedisConnectionManager create(ServerKey key, CompletableFuture<RedisConnectionManager> future) {
+        RedisConnectionManager manager;
+        try {
+            manager = new RedisConnectionManager(key);
+        } catch (RuntimeException e) {
+            synchronized (INSTANCES) {
+                INSTANCES.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (INSTANCES) {
+            manager.references++;
+        }
+        future.complete(manager);
+        return manager;
+    }
+
+    private static void awaitCreation(CompletableFuture<RedisConnectionManager> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CacheException cacheException) {
+                throw cacheException;
+            }
+            throw new CacheException("Failed to connect to Redis server", e.getCause());
+        }
+    }
+
+    private static ServerKey serverKey(CacheConfiguration config) {
+        return new ServerKey(
+                config.getRedisHost() != null ? config.getRedisHost() : "localhost",
+                config.getRedisPort() > 0 ? config.getRedisPort() : 6379,
+                Math.max(config.getRedisDatabase(), 0),
+                config.getRedisPassword());
+    }
+
+    /**
+     * Borrows a connection from the shared pool; close it to return it.
+     */
+    public Jedis getResource() {
+        return jedisPool.getResource();
+    }
+
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
     }
 
     public <T> T execute(Function<Jedis, T> action) {
@@ -61,9 +180,52 @@ public class RedisConnectionManager implements AutoCloseable {
         }
     }
 
+    /**
+     * Releases one reference; the pool is closed when none remain.
+     */
+    public void release() {
+        synchronized (INSTANCES) {
+            if (--references > 0) {
+                return;
+            }
+            unregister();
+        }
+        shutdown();
+    }
+
+    /**
+     * Closes the shared pool regardless of outstanding references.
+     */
     @Override
     public void close() {
+        synchronized (INSTANCES) {
+            references = 0;
+            unregister();
+        }
+        shutdown();
+    }
+
+    private void unregister() {
+        CompletableFuture<RedisConnectionManager> future = INSTANCES.get(serverKey);
+        if (future != null && future.getNow(null) == this) {
+            INSTANCES.remove(serverKey);
+        }
+    }
+
+    private void shutdown() {
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                asyncExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            asyncExecutor.shutdownNow();
+        }
         jedisPool.close();
         log.info("Redis connection manager closed");
     }
+
+    private record ServerKey(String host, int port, int database, String password) {
+    }
 }
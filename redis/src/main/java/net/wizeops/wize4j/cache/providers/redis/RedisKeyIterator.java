@@ -0,0 +1,50 @@
+package net.wizeops.wize4j.cache.providers.redis;
+
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lazily walks the keyspace with SCAN, fetching one page per round trip. No connection
+ * is held between pages, so an abandoned iterator does not leak resources. As with
+ * SCAN itself, a key may be returned more than once if the keyspace changes meanwhile.
+ */
+class RedisKeyIterator implements Iterator<String> {
+    private final Function<String, ScanResult<String>> scanPage;
+    private final UnaryOperator<String> keyMapper;
+    private final Deque<String> buffer = new ArrayDeque<>();
+    private String cursor = ScanParams.SCAN_POINTER_START;
+    private boolean complete;
+
+    RedisKeyIterator(Function<String, ScanResult<String>> scanPage, UnaryOperator<String> keyMapper) {
+        this.scanPage = scanPage;
+        this.keyMapper = keyMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (buffer.isEmpty() && !complete) {
+            ScanResult<String> page = scanPage.apply(cursor);
+            for (String key : page.getResult()) {
+                buffer.add(keyMapper.apply(key));
+            }
+            cursor = page.getCursor();
+            complete = page.isCompleteIteration();
+        }
+        return !buffer.isEmpty();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.poll();
+    }
+}
@@ -0,0 +1,240 @@
+package net.wizeops.wize4j.cache.providers.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import net.wizeops.wize4j.cache.config.CacheConfiguration;
+import net.wizeops.wize4j.cache.core.CacheStatistics;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded local copy of recently read Redis values, kept coherent with server-side
+ * {@code CLIENT TRACKING}.
+ * <p>
+ * A dedicated RESP3 connection enables tracking in broadcast mode for the provider's key
+ * prefix and receives an invalidation push whenever a matching key is written, deleted or
+ * expires, whichever client changed it. Pooled connections are not involved.
+ * <p>
+ * Reads from Redis go through {@link #beginLoad}/{@link #completeLoad}. A placeholder is
+ * stored before the fetch and replaced only if no invalidation removed it meanwhile, so a
+ * fetch racing a concurrent write cannot cache the old value. When the tracking connection
+ * drops, all local copies are discarded and the near cache is bypassed until tracking is
+ * re-established.
+ */
+@Slf4j
+class RedisNearCache implements AutoCloseable {
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final Cache<String, Object> local;
+    private final Map<String, Object> localMap;
+    private final String keyPrefix;
+    private final HostAndPort address;
+    private final DefaultJedisClientConfig clientConfig;
+    private final Supplier<CacheStatistics> statistics;
+    private final AtomicLong epoch = new AtomicLong();
+    private final Thread listener;
+
+    private volatile boolean tracking;
+    private volatile boolean closed;
+    private volatile Connection connection;
+
+    RedisNearCache(CacheConfiguration config, String keyPrefix, Supplier<CacheStatistics> statistics) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(config.getRedisNearCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getRedisNearCacheTtlSeconds()))
+                .build();
+        this.localMap = local.asMap();
+        this.keyPrefix = keyPrefix;
+        this.statistics = statistics;
+        this.address = new HostAndPort(
+                config.getRedisHost() != null ? config.getRedisHost() : "localhost",
+                config.getRedisPort() > 0 ? config.getRedisPort() : 6379);
+        this.clientConfig = DefaultJedisClientConfig.builder()
+                .protocol(RedisProtocol.RESP3)
+                .password(config.getRedisPassword())
+                .database(Math.max(config.getRedisDatabase(), 0))
+                .clientName("wize4j-near-cache")
+                .build();
+
+        this.listener = new Thread(this::listen, "redis-near-cache-listener");
+        this.listener.setDaemon(true);
+        this.listener.start();
+    }
+
+    /**
+     * Local copy of {@code key}, or null when absent, being loaded, or tracking is down.
+     */
+    Object get(String key) {
+        if (!tracking) {
+            return null;
+        }
+        Object value = local.getIfPresent(key);
+        if (value == null || value instanceof PendingLoad) {
+            return null;
+        }
+        CacheStatistics stats = statistics.get();
+        if (stats != null) {
+            stats.recordNearCacheHit();
+        }
+        return value;
+    }
+
+    /**
+     * Registers a fetch of {@code key} from Redis. Returns null when the result must not be cached.
+     */
+    Object beginLoad(String key) {
+        if (!tracking) {
+            return null;
+        }
+        PendingLoad load = new PendingLoad(epoch.get());
+        localMap.put(key, load);
+        return load;
+    }
+
+    void completeLoad(String key, Object load, Object value) {
+        if (load == null) {
+            return;
+        }
+        PendingLoad pending = (PendingLoad) load;
+        boolean stored = value != null && tracking && pending.epoch == epoch.get()
+                && localMap.replace(key, pending, value);
+        if (!stored) {
+            boolean removed = localMap.remove(key, pending);
+            if (value != null && !removed) {
+                recordStaleDiscards(1);
+            }
+        }
+    }
+
+    void invalidate(String key) {
+        local.invalidate(key);
+    }
+
+    void invalidateAll() {
+        local.invalidateAll();
+    }
+
+    long size() {
+        return local.estimatedSize();
+    }
+
+    private void listen() {
+        long delay = 100;
+        while (!closed) {
+            try (Connection conn = new Connection(address, clientConfig)) {
+                connection = conn;
+                conn.sendCommand(Protocol.Command.CLIENT, "TRACKING", "ON", "BCAST", "PREFIX", keyPrefix);
+                Object reply = conn.getOne();
+                if (!"OK".equals(SafeEncoder.encodeObject(reply))) {
+                    throw new IllegalStateException("CLIENT TRACKING refused: " + SafeEncoder.encodeObject(reply));
+                }
+                conn.setTimeoutInfinite();
+
+                // Tout ce qui a été chargé avant ce point a pu manquer des invalidations
+                epoch.incrementAndGet();
+                discardAll();
+                tracking = true;
+                delay = 100;
+                log.info("Redis near cache tracking enabled for prefix {}", keyPrefix);
+
+                while (!closed) {
+                    onPush(conn.getOne());
+                }
+            } catch (Exception e) {
+                if (closed) {
+                    break;
+                }
+                log.warn("Redis near cache tracking connection lost, bypassing local copies: {}", e.getMessage());
+            } finally {
+                tracking = false;
+                connection = null;
+                epoch.incrementAndGet();
+                discardAll();
+            }
+
+            sleepQuietly(delay);
+            delay = Math.min(delay * 2, MAX_RECONNECT_DELAY_MS);
+        }
+    }
+
+    private void onPush(Object message) {
+        if (!(message instanceof List<?> push) || push.size() < 2
+                || !"invalidate".equals(SafeEncoder.encodeObject(push.get(0)))) {
+            return;
+        }
+
+        Object keys = push.get(1);
+        if (keys == null) {
+            // FLUSHDB / FLUSHALL côté serveur
+            discardAll();
+            return;
+        }
+
+        int invalidated = 0;
+        for (Object redisKey : (List<?>) keys) {
+            String key = SafeEncoder.encode((byte[]) redisKey);
+            if (key.startsWith(keyPrefix)) {
+                localMap.remove(key.substring(keyPrefix.length()));
+                invalidated++;
+            }
+        }
+        CacheStatistics stats = statistics.get();
+        if (stats != null && invalidated > 0) {
+            stats.recordNearCacheInvalidations(invalidated);
+        }
+    }
+
+    private void discardAll() {
+        long discarded = local.estimatedSize();
+        local.invalidateAll();
+        recordStaleDiscards(discarded);
+    }
+
+    private void recordStaleDiscards(long count) {
+        CacheStatistics stats = statistics.get();
+        if (stats != null && count > 0) {
+            stats.recordNearCacheStaleDiscards(count);
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        tracking = false;
+        Connection conn = connection;
+        if (conn != null) {
+            conn.close();
+        }
+        listener.interrupt();
+        local.invalidateAll();
+    }
+
+    // Comparé par identité : chaque chargement a son propre marqueur
+    private static final class PendingLoad {
+        private final long epoch;
+
+        PendingLoad(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}